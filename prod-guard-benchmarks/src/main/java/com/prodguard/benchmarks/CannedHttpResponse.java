@@ -0,0 +1,64 @@
+package com.prodguard.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Response with fixed headers, built once like the ones {@link java.net.http.HttpClient} returns.
+ */
+final class CannedHttpResponse implements HttpResponse<Void> {
+
+    private final HttpHeaders headers;
+
+    CannedHttpResponse(Map<String, List<String>> headers) {
+        this.headers = HttpHeaders.of(headers, (name, value) -> true);
+    }
+
+    @Override
+    public int statusCode() {
+        return 200;
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public HttpRequest request() {
+        return null;
+    }
+
+    @Override
+    public Optional<HttpResponse<Void>> previousResponse() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Void body() {
+        return null;
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+        return Optional.empty();
+    }
+
+    @Override
+    public URI uri() {
+        return URI.create("https://localhost:8443/");
+    }
+
+    @Override
+    public HttpClient.Version version() {
+        return HttpClient.Version.HTTP_1_1;
+    }
+}
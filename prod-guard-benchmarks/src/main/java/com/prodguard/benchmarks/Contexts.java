@@ -0,0 +1,46 @@
+package com.prodguard.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Application contexts shaped like a mid-sized service: several property sources of a
+ * few hundred keys each and a few hundred bean definitions.
+ */
+final class Contexts {
+
+    static final int KEYS_PER_SOURCE = 200;
+
+    private Contexts() {
+    }
+
+    static GenericApplicationContext realistic(int propertySources, int beans) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.getEnvironment().setActiveProfiles("prod");
+
+        for (int s = 0; s < propertySources; s++) {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (int k = 0; k < KEYS_PER_SOURCE; k++) {
+                properties.put("app.synthetic." + k, "value-" + s + "-" + k);
+                properties.put("app.source" + s + ".key" + k, Integer.toString(k));
+            }
+            properties.put("local.server.port", "8443");
+            context.getEnvironment().getPropertySources().addLast(new MapPropertySource("source-" + s, properties));
+        }
+
+        for (int b = 0; b < beans; b++) {
+            switch (b % 3) {
+                case 0 -> context.registerBean("map" + b, LinkedHashMap.class, () -> new LinkedHashMap<>());
+                case 1 -> context.registerBean("builder" + b, StringBuilder.class, () -> new StringBuilder());
+                default -> context.registerBean("list" + b, ArrayList.class, () -> new ArrayList<>());
+            }
+        }
+
+        context.refresh();
+        return context;
+    }
+}
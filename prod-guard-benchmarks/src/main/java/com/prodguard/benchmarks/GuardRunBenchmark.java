@@ -0,0 +1,90 @@
+package com.prodguard.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.prodguard.core.ProdCheck;
+import com.prodguard.starter.CheckPlanner;
+import com.prodguard.starter.ConcurrentCheckExecutionEngine;
+import com.prodguard.starter.ExecutionBudget;
+import com.prodguard.starter.ExecutionMode;
+import com.prodguard.starter.ProdGuardProperties;
+import com.prodguard.starter.ProdGuardRunner;
+import com.prodguard.starter.RecordedExecution;
+import com.prodguard.starter.SequentialCheckExecutionEngine;
+import com.prodguard.starter.SeverityResolver;
+
+/**
+ * {@link ProdGuardRunner} end to end over N synthetic configuration checks: context
+ * snapshot, planning, execution and reporting, as done once at startup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=error")
+@State(Scope.Benchmark)
+public class GuardRunBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int checks;
+
+    @Param({"SEQUENTIAL", "VIRTUAL_THREADS"})
+    ExecutionMode mode;
+
+    private GenericApplicationContext context;
+    private ProdGuardRunner runner;
+    private final DefaultApplicationArguments args = new DefaultApplicationArguments();
+
+    @Setup
+    public void setUp() {
+        context = Contexts.realistic(8, 300);
+
+        ProdGuardProperties properties = new ProdGuardProperties();
+        properties.setReportOnly(true);
+        SeverityResolver severityResolver = new SeverityResolver(properties);
+        List<ProdCheck> synthetic = IntStream.range(0, checks)
+                .<ProdCheck>mapToObj(i -> new SyntheticCheck(i, 10))
+                .toList();
+
+        runner = new ProdGuardRunner(
+            synthetic,
+            context,
+            severityResolver,
+            new CheckPlanner(severityResolver),
+            mode == ExecutionMode.SEQUENTIAL
+                ? new SequentialCheckExecutionEngine()
+                : ConcurrentCheckExecutionEngine.virtualThreads(ExecutionBudget.UNBOUNDED),
+            List.of(),
+            properties
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Map<String, RecordedExecution> run() throws Exception {
+        runner.run(args);
+        return runner.latestExecutions();
+    }
+}
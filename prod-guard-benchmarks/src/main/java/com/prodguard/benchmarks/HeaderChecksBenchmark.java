@@ -0,0 +1,134 @@
+package com.prodguard.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.prodguard.checks.premium.security.EffectiveCspCheck;
+import com.prodguard.checks.premium.security.EffectiveSecurityHeadersCheck;
+import com.prodguard.checks.premium.security.HttpProbe;
+import com.prodguard.checks.premium.security.PremiumSecurityChecks;
+import com.prodguard.checks.premium.security.ProbeSession;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+import com.prodguard.spring.SpringProdGuardContext;
+
+/**
+ * Header parsing and evaluation of the premium checks against a canned response of a
+ * typical hardened application, with the network taken out of the picture. The
+ * {@code shared} variant goes through a {@link ProbeSession}, as in a guard run, so the
+ * checks share one parsed header model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeaderChecksBenchmark {
+
+    private GenericApplicationContext context;
+    private ProdGuardContext ctx;
+    private List<ProdCheck> checks;
+    private ProbeSession session;
+    private List<ProdCheck> sharedChecks;
+    private EffectiveCspCheck csp;
+    private EffectiveSecurityHeadersCheck securityHeaders;
+
+    @Setup
+    public void setUp() {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", List.of("text/html;charset=UTF-8"));
+        headers.put("Content-Length", List.of("5120"));
+        headers.put("Date", List.of("Tue, 01 Oct 2024 10:00:00 GMT"));
+        headers.put("Cache-Control", List.of("no-cache, no-store, max-age=0, must-revalidate"));
+        headers.put("Pragma", List.of("no-cache"));
+        headers.put("Expires", List.of("0"));
+        headers.put("Vary", List.of("Origin", "Access-Control-Request-Method", "Access-Control-Request-Headers"));
+        headers.put("Strict-Transport-Security", List.of("max-age=31536000 ; includeSubDomains ; preload"));
+        headers.put("Content-Security-Policy", List.of(
+            "default-src 'self'; script-src 'self' https://cdn.example.com; style-src 'self'; img-src 'self' data:; "
+                + "connect-src 'self' https://api.example.com; frame-ancestors 'none'; base-uri 'self'; form-action 'self'"));
+        headers.put("X-Content-Type-Options", List.of("nosniff"));
+        headers.put("X-Frame-Options", List.of("DENY"));
+        headers.put("X-XSS-Protection", List.of("0"));
+        headers.put("Referrer-Policy", List.of("strict-origin-when-cross-origin"));
+        headers.put("Permissions-Policy", List.of("camera=(), microphone=(), geolocation=(), payment=()"));
+        headers.put("Cross-Origin-Opener-Policy", List.of("same-origin"));
+        headers.put("Cross-Origin-Resource-Policy", List.of("same-origin"));
+        headers.put("Set-Cookie", List.of(
+            "SESSION=abc123; Path=/; Secure; HttpOnly; SameSite=Lax",
+            "XSRF-TOKEN=def456; Path=/; Secure; SameSite=Strict"));
+        CannedHttpResponse response = new CannedHttpResponse(headers);
+        HttpProbe probe = request -> response;
+
+        context = Contexts.realistic(4, 50);
+        ctx = new SpringProdGuardContext(context);
+        csp = PremiumSecurityChecks.csp(probe);
+        securityHeaders = PremiumSecurityChecks.securityHeaders(probe);
+        checks = premiumChecks(probe);
+        session = new ProbeSession(probe);
+        sharedChecks = premiumChecks(session);
+    }
+
+    private static List<ProdCheck> premiumChecks(HttpProbe probe) {
+        return List.of(
+            PremiumSecurityChecks.https(probe),
+            PremiumSecurityChecks.hsts(probe),
+            PremiumSecurityChecks.csp(probe),
+            PremiumSecurityChecks.securityHeaders(probe),
+            PremiumSecurityChecks.xFrameOptions(probe),
+            PremiumSecurityChecks.referrerPolicy(probe),
+            PremiumSecurityChecks.permissionsPolicy(probe),
+            PremiumSecurityChecks.crossOriginOpenerPolicy(probe),
+            PremiumSecurityChecks.cookieFlags(probe)
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<CheckResult> csp() {
+        return csp.check(ctx);
+    }
+
+    @Benchmark
+    public Optional<CheckResult> securityHeaders() {
+        return securityHeaders.check(ctx);
+    }
+
+    @Benchmark
+    public void allPremiumChecks(Blackhole bh) {
+        for (ProdCheck check : checks) {
+            bh.consume(check.check(ctx));
+        }
+    }
+
+    @Benchmark
+    public void allPremiumChecksShared(Blackhole bh) {
+        session.reset();
+        for (ProdCheck check : sharedChecks) {
+            bh.consume(check.check(ctx));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.prodguard.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.EffectiveSeverity;
+import com.prodguard.core.Severity;
+import com.prodguard.starter.ProdGuardProperties;
+import com.prodguard.starter.SeverityResolver;
+
+/**
+ * {@link SeverityResolver#resolve(CheckResult)}, called several times per result in a run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeverityResolverBenchmark {
+
+    @Param({"0", "20"})
+    int overrides;
+
+    private SeverityResolver resolver;
+    private CheckResult defaulted;
+    private CheckResult overridden;
+    private CheckResult timedOut;
+
+    @Setup
+    public void setUp() {
+        ProdGuardProperties properties = new ProdGuardProperties();
+        for (int i = 0; i < overrides; i++) {
+            properties.getSeverities().put(String.format("PG-%03d", i), EffectiveSeverity.INFO);
+        }
+        resolver = new SeverityResolver(properties);
+
+        CheckDescriptor plain = new CheckDescriptor("PG-999", "Plain", Severity.WARN);
+        CheckDescriptor configured = new CheckDescriptor("PG-001", "Configured", Severity.ERROR);
+        defaulted = CheckResult.warn(plain, "message", "remediation");
+        overridden = CheckResult.error(configured, "message", "remediation");
+        timedOut = CheckResult.timedOut(plain, Duration.ofSeconds(1));
+    }
+
+    @Benchmark
+    public EffectiveSeverity resolveDefault() {
+        return resolver.resolve(defaulted);
+    }
+
+    @Benchmark
+    public EffectiveSeverity resolveOverridden() {
+        return resolver.resolve(overridden);
+    }
+
+    @Benchmark
+    public EffectiveSeverity resolveTimedOut() {
+        return resolver.resolve(timedOut);
+    }
+}
@@ -0,0 +1,92 @@
+package com.prodguard.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.prodguard.spring.SpringProdGuardContext;
+
+/**
+ * Property and bean lookups through {@link SpringProdGuardContext}. The {@code cold}
+ * variants build a new context view per call, as each guard run does, and so include
+ * the property snapshot; the others hit an already populated view.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpringContextBenchmark {
+
+    @Param({"4", "16"})
+    int propertySources;
+
+    @Param({"300"})
+    int beans;
+
+    private GenericApplicationContext context;
+    private SpringProdGuardContext warm;
+
+    @Setup
+    public void setUp() {
+        context = Contexts.realistic(propertySources, beans);
+        warm = new SpringProdGuardContext(context);
+        warm.getProperty("app.synthetic.42");
+        warm.getProperty("app.missing.key");
+        warm.hasBean("java.lang.StringBuilder");
+        warm.hasBean("java.util.concurrent.ConcurrentSkipListMap");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SpringProdGuardContext newContext() {
+        return new SpringProdGuardContext(context);
+    }
+
+    @Benchmark
+    public Object getProperty() {
+        return warm.getProperty("app.synthetic.42");
+    }
+
+    @Benchmark
+    public Object getPropertyMissing() {
+        return warm.getProperty("app.missing.key");
+    }
+
+    @Benchmark
+    public Object getPropertyLastSourceCold() {
+        return new SpringProdGuardContext(context).getProperty("app.source" + (propertySources - 1) + ".key199");
+    }
+
+    @Benchmark
+    public boolean hasBean() {
+        return warm.hasBean("java.lang.StringBuilder");
+    }
+
+    @Benchmark
+    public boolean hasBeanMissing() {
+        return warm.hasBean("java.util.concurrent.ConcurrentSkipListMap");
+    }
+
+    @Benchmark
+    public boolean hasBeanCold() {
+        return new SpringProdGuardContext(context).hasBean("java.lang.StringBuilder");
+    }
+}
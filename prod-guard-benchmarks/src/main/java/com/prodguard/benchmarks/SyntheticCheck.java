@@ -0,0 +1,41 @@
+package com.prodguard.benchmarks;
+
+import java.util.Optional;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+import com.prodguard.core.Severity;
+
+/**
+ * Configuration check doing what a typical free check does: a few property reads and a
+ * comparison. Every {@code issueEvery}-th check reports a WARN.
+ */
+final class SyntheticCheck implements ProdCheck {
+
+    private final CheckDescriptor descriptor;
+    private final String key;
+    private final boolean reportsIssue;
+
+    SyntheticCheck(int index, int issueEvery) {
+        this.descriptor = new CheckDescriptor(String.format("PG-%04d", 1000 + index), "Synthetic check " + index, Severity.WARN);
+        this.key = "app.synthetic." + (index % Contexts.KEYS_PER_SOURCE);
+        this.reportsIssue = issueEvery > 0 && index % issueEvery == 0;
+    }
+
+    @Override
+    public CheckDescriptor descriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public Optional<CheckResult> check(ProdGuardContext ctx) {
+        boolean enabled = ctx.getBoolean(key + ".enabled").orElse(true);
+        String value = ctx.getProperty(key).orElse("");
+        if (reportsIssue && enabled && !value.isEmpty()) {
+            return Optional.of(CheckResult.warn(descriptor, "Synthetic issue on " + key, "Nothing to do"));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,60 @@
+package com.prodguard.benchmarks.startup;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Configurations example-app is booted in. Every mode but the baseline runs the guard
+ * with the prod checks forced on and in report-only mode, so findings never stop the boot.
+ */
+enum BootMode {
+
+    /**
+     * Baseline: booted from a class path without the prod-guard modules, as an application
+     * that does not depend on the starter.
+     */
+    NONE(List.of()),
+
+    /** Free checks only, run one after another on the startup thread. */
+    FREE(List.of(
+        "--prodguard.premium.enabled=false",
+        "--prodguard.execution.mode=SEQUENTIAL",
+        "--prodguard.startup-mode=BLOCKING"
+    )),
+
+    /** Free and premium checks, run one after another on the startup thread. */
+    PREMIUM(List.of(
+        "--prodguard.premium.enabled=true",
+        "--prodguard.execution.mode=SEQUENTIAL",
+        "--prodguard.startup-mode=BLOCKING"
+    )),
+
+    /** Free and premium checks on virtual threads, runtime checks deferred past readiness. */
+    PARALLEL(List.of(
+        "--prodguard.premium.enabled=true",
+        "--prodguard.execution.mode=VIRTUAL_THREADS",
+        "--prodguard.startup-mode=POST_READINESS"
+    ));
+
+    private static final List<String> COMMON = List.of(
+        "--server.port=0",
+        "--spring.main.banner-mode=off",
+        "--logging.level.root=WARN",
+        "--prodguard.force=true",
+        "--prodguard.report-only=true",
+        "--prodguard.cache.enabled=false"
+    );
+
+    private final List<String> arguments;
+
+    BootMode(List<String> arguments) {
+        this.arguments = arguments;
+    }
+
+    /**
+     * Application arguments selecting this mode.
+     */
+    List<String> arguments() {
+        return Stream.concat(COMMON.stream(), arguments.stream()).toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.prodguard.benchmarks.startup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * What one boot of example-app cost, measured in the booted JVM when
+ * {@code ApplicationReadyEvent} is published.
+ *
+ * @param readyMillis    JVM uptime at readiness
+ * @param loadedClasses  classes loaded at readiness
+ * @param heapUsedBytes  heap in use after a full GC at readiness
+ */
+record BootSample(BootMode mode, long readyMillis, long loadedClasses, long heapUsedBytes) {
+
+    static final String MARKER = "[prod-guard-startup]";
+
+    String toLine() {
+        return MARKER + " mode=" + mode + " readyMillis=" + readyMillis
+                + " loadedClasses=" + loadedClasses + " heapUsedBytes=" + heapUsedBytes;
+    }
+
+    static Optional<BootSample> parse(String line) {
+        if (!line.startsWith(MARKER)) {
+            return Optional.empty();
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (String token : line.substring(MARKER.length()).trim().split(" ")) {
+            int eq = token.indexOf('=');
+            if (eq > 0) {
+                fields.put(token.substring(0, eq), token.substring(eq + 1));
+            }
+        }
+        try {
+            return Optional.of(new BootSample(
+                BootMode.valueOf(fields.get("mode")),
+                Long.parseLong(fields.get("readyMillis")),
+                Long.parseLong(fields.get("loadedClasses")),
+                Long.parseLong(fields.get("heapUsedBytes"))
+            ));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.prodguard.benchmarks.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.DemoApplication;
+
+/**
+ * Boots example-app once in the given {@link BootMode}, prints a {@link BootSample} line
+ * taken at readiness and exits. Run in a fresh JVM by {@link StartupRegressionHarness}.
+ */
+public final class StartupProbe {
+
+    private static final String STARTER_CLASS = "com/prodguard/starter/ProdGuardRunner.class";
+
+    private StartupProbe() {
+    }
+
+    public static void main(String[] args) {
+        BootMode mode = BootMode.valueOf(args[0]);
+        // Looked up as a resource so the check itself loads no prod-guard class
+        if (mode == BootMode.NONE && StartupProbe.class.getClassLoader().getResource(STARTER_CLASS) != null) {
+            throw new IllegalStateException("prod-guard is on the class path of the " + mode + " baseline");
+        }
+
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+        application.addListeners((ApplicationListener<ApplicationReadyEvent>) event -> {
+            long readyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            long loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+            System.gc();
+            long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            System.out.println(new BootSample(mode, readyMillis, loadedClasses, heapUsed).toLine());
+        });
+
+        String[] applicationArgs = mode.arguments().toArray(String[]::new);
+        ConfigurableApplicationContext context = application.run(
+            args.length > 1
+                ? concat(applicationArgs, Arrays.copyOfRange(args, 1, args.length))
+                : applicationArgs
+        );
+        System.exit(SpringApplication.exit(context));
+    }
+
+    private static String[] concat(String[] a, String[] b) {
+        String[] all = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, all, a.length, b.length);
+        return all;
+    }
+}
@@ -0,0 +1,209 @@
+package com.prodguard.benchmarks.startup;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Measures what prod-guard adds to the boot of example-app. Each {@link BootMode} is
+ * booted repeatedly, every boot in a fresh JVM, with modes interleaved so drift in the
+ * machine's load spreads evenly across them. Medians are reported next to their
+ * overhead over the {@link BootMode#NONE} baseline and appended to a CSV file, one row
+ * per mode and label, so runs of successive releases can be compared.
+ * <p>
+ * The baseline boots from the harness class path minus the prod-guard modules, so the
+ * harness must run from the module class path rather than the shaded benchmarks jar:
+ * <pre>
+ * java -cp prod-guard-benchmarks/target/classes:$(cat prod-guard-benchmarks/target/classpath.txt) \
+ *      com.prodguard.benchmarks.startup.StartupRegressionHarness \
+ *      [--runs 10] [--warmup 2] [--modes NONE,FREE,PREMIUM,PARALLEL] \
+ *      [--label 0.2.0] [--report startup-report.csv]
+ * </pre>
+ */
+public final class StartupRegressionHarness {
+
+    private static final String HEADER = "label,mode,runs,ready_ms_median,ready_ms_min,ready_ms_max,ready_ms_overhead,"
+            + "loaded_classes_median,loaded_classes_overhead,heap_used_bytes_median,heap_used_bytes_overhead";
+    private static final long BOOT_TIMEOUT_SECONDS = 120;
+    private static final List<String> PROD_GUARD_PACKAGES =
+            List.of("com/prodguard/core/", "com/prodguard/checks/", "com/prodguard/spring/", "com/prodguard/starter/");
+
+    private StartupRegressionHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 10;
+        int warmup = 2;
+        List<BootMode> modes = List.of(BootMode.values());
+        String label = "dev";
+        Path report = Path.of("startup-report.csv");
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--modes" -> modes = Arrays.stream(args[++i].split(",")).map(String::trim).map(BootMode::valueOf).toList();
+                case "--label" -> label = args[++i];
+                case "--report" -> report = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        String classPath = System.getProperty("java.class.path");
+        String baselineClassPath = modes.contains(BootMode.NONE) ? withoutProdGuard(classPath) : null;
+
+        Map<BootMode, List<BootSample>> samples = new EnumMap<>(BootMode.class);
+        for (int round = 0; round < warmup + runs; round++) {
+            for (BootMode mode : modes) {
+                BootSample sample = boot(mode, mode == BootMode.NONE ? baselineClassPath : classPath);
+                System.out.printf("%s %-8s %s%n", round < warmup ? "warmup" : "run   ", mode, summary(sample));
+                if (round >= warmup) {
+                    samples.computeIfAbsent(mode, m -> new ArrayList<>()).add(sample);
+                }
+            }
+        }
+
+        List<String> rows = rows(label, samples);
+        System.out.println();
+        System.out.println(HEADER);
+        rows.forEach(System.out::println);
+        append(report, rows);
+        System.out.println("appended to " + report.toAbsolutePath());
+    }
+
+    /**
+     * Drops the class path entries holding prod-guard classes. Fails when one also holds the
+     * harness, as the shaded jar does, since the baseline could then not be separated.
+     */
+    private static String withoutProdGuard(String classPath) throws IOException {
+        String probe = StartupProbe.class.getName().replace('.', '/') + ".class";
+        List<String> kept = new ArrayList<>();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            List<String> resources = resources(Path.of(entry));
+            if (resources.stream().noneMatch(name -> PROD_GUARD_PACKAGES.stream().anyMatch(name::startsWith))) {
+                kept.add(entry);
+            } else if (resources.contains(probe)) {
+                throw new IllegalStateException(entry + " holds both the harness and prod-guard: run the harness"
+                        + " from the module class path so the " + BootMode.NONE + " baseline can leave prod-guard out");
+            }
+        }
+        return String.join(File.pathSeparator, kept);
+    }
+
+    private static List<String> resources(Path entry) throws IOException {
+        if (Files.isDirectory(entry)) {
+            try (Stream<Path> files = Files.walk(entry)) {
+                return files.map(file -> entry.relativize(file).toString().replace(File.separatorChar, '/')
+                        + (Files.isDirectory(file) ? "/" : "")).toList();
+            }
+        }
+        if (Files.isRegularFile(entry)) {
+            try (JarFile jar = new JarFile(entry.toFile())) {
+                return jar.stream().map(JarEntry::getName).toList();
+            }
+        }
+        return List.of();
+    }
+
+    private static BootSample boot(BootMode mode, String classPath) throws IOException, InterruptedException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process process = new ProcessBuilder(
+                java, "-cp", classPath, StartupProbe.class.getName(), mode.name())
+            .redirectErrorStream(true)
+            .start();
+
+        List<String> output = Collections.synchronizedList(new ArrayList<>());
+        Thread reader = Thread.ofVirtual().start(() -> {
+            try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                in.lines().forEach(output::add);
+            } catch (IOException e) {
+                // Process killed; whatever was read is reported below
+            }
+        });
+
+        if (!process.waitFor(BOOT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+        reader.join();
+
+        synchronized (output) {
+            return output.stream()
+                .map(BootSample::parse)
+                .flatMap(Optional::stream)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                    "Boot in mode " + mode + " reported no sample:\n" + String.join("\n", output)));
+        }
+    }
+
+    private static List<String> rows(String label, Map<BootMode, List<BootSample>> samples) {
+        List<BootSample> baseline = samples.get(BootMode.NONE);
+        List<String> rows = new ArrayList<>();
+        samples.forEach((mode, list) -> {
+            long ready = median(list, BootSample::readyMillis);
+            long classes = median(list, BootSample::loadedClasses);
+            long heap = median(list, BootSample::heapUsedBytes);
+            rows.add(String.join(",",
+                label,
+                mode.name(),
+                Integer.toString(list.size()),
+                Long.toString(ready),
+                Long.toString(list.stream().mapToLong(BootSample::readyMillis).min().orElse(0)),
+                Long.toString(list.stream().mapToLong(BootSample::readyMillis).max().orElse(0)),
+                overhead(ready, baseline, BootSample::readyMillis),
+                Long.toString(classes),
+                overhead(classes, baseline, BootSample::loadedClasses),
+                Long.toString(heap),
+                overhead(heap, baseline, BootSample::heapUsedBytes)
+            ));
+        });
+        return rows;
+    }
+
+    private static String overhead(long median, List<BootSample> baseline, ToLongFunction<BootSample> metric) {
+        return baseline == null ? "" : Long.toString(median - median(baseline, metric));
+    }
+
+    private static long median(List<BootSample> samples, ToLongFunction<BootSample> metric) {
+        long[] values = samples.stream().mapToLong(metric).sorted().toArray();
+        int mid = values.length / 2;
+        return values.length % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2;
+    }
+
+    private static String summary(BootSample sample) {
+        return String.format("ready=%dms classes=%d heap=%dKB",
+                sample.readyMillis(), sample.loadedClasses(), sample.heapUsedBytes() / 1024);
+    }
+
+    private static void append(Path report, List<String> rows) {
+        try {
+            List<String> lines = new ArrayList<>();
+            if (Files.notExists(report)) {
+                lines.add(HEADER);
+            }
+            lines.addAll(rows);
+            Files.write(report, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
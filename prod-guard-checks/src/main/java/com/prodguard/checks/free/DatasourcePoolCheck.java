@@ -14,7 +14,7 @@ public class DatasourcePoolCheck implements ProdCheck {
 	
     @Override
     public Optional<CheckResult> check(ProdGuardContext ctx) {
-        Optional<String> pool = ctx.getProperty("spring.datasource.hikari.maximum-pool-size");
+        Optional<Integer> pool = ctx.getInt("spring.datasource.hikari.maximum-pool-size");
         if (pool.isEmpty()) {
             return Optional.of(new CheckResult(
                     DESCRIPTOR,
@@ -13,6 +13,11 @@ public class HeapSizeCheck implements ProdCheck {
 	        );
 
 	
+    @Override
+    public CheckCost cost() {
+        return CheckCost.RUNTIME;
+    }
+
     @Override
     public Optional<CheckResult> check(ProdGuardContext ctx) {
         long maxHeapMb = Runtime.getRuntime().maxMemory() / (1024L * 1024L);
@@ -14,9 +14,9 @@ public class HttpsEnabledCheck implements ProdCheck {
 
     @Override
     public Optional<CheckResult> check(ProdGuardContext ctx) {
-        String v = ctx.getProperty("server.ssl.enabled").orElse("false");
+        boolean sslEnabled = ctx.getBoolean("server.ssl.enabled").orElse(false);
 
-        if (!"true".equalsIgnoreCase(v)) {
+        if (!sslEnabled) {
             return Optional.of(new CheckResult(
                     DESCRIPTOR,
                     "HTTPS is not enabled (server.ssl.enabled is not set to true)",
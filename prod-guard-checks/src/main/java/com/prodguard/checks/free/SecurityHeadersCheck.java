@@ -12,6 +12,11 @@ public class SecurityHeadersCheck implements ProdCheck {
                     Severity.WARN
             );
 
+    @Override
+    public CheckCost cost() {
+        return CheckCost.BEAN;
+    }
+
     @Override
     public Optional<CheckResult> check(ProdGuardContext ctx) {
         boolean hasSecurity =
@@ -14,9 +14,9 @@ public class ShowSqlCheck implements ProdCheck {
 
     @Override
     public Optional<CheckResult> check(ProdGuardContext ctx) {
-        String v = ctx.getProperty("spring.jpa.show-sql").orElse("false");
+        boolean showSql = ctx.getBoolean("spring.jpa.show-sql").orElse(false);
 
-        if ("true".equalsIgnoreCase(v)) {
+        if (showSql) {
             return Optional.of(new CheckResult(
                     DESCRIPTOR,
                     "JPA SQL logging is enabled (spring.jpa.show-sql=true)",
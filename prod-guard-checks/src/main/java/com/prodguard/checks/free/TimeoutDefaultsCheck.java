@@ -1,6 +1,7 @@
 package com.prodguard.checks.free;
 
 import com.prodguard.core.*;
+import java.time.Duration;
 import java.util.Optional;
 
 public class TimeoutDefaultsCheck implements ProdCheck {
@@ -14,8 +15,8 @@ public class TimeoutDefaultsCheck implements ProdCheck {
 
     @Override
     public Optional<CheckResult> check(ProdGuardContext ctx) {
-        Optional<String> timeout =
-                ctx.getProperty("spring.mvc.async.request-timeout");
+        Optional<Duration> timeout =
+                ctx.getDuration("spring.mvc.async.request-timeout");
 
         if (timeout.isEmpty()) {
             return Optional.of(new CheckResult(
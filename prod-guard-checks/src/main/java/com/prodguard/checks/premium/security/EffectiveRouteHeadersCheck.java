@@ -0,0 +1,165 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.CheckTier;
+import com.prodguard.core.HttpRoute;
+import com.prodguard.core.ProdGuardContext;
+import com.prodguard.core.Severity;
+
+public class EffectiveRouteHeadersCheck implements ProbingCheck {
+
+    public static final CheckDescriptor DESCRIPTOR =
+        new CheckDescriptor(
+            "PG-210",
+            "Effective security headers across endpoints",
+            Severity.WARN,
+            """
+            Validates that security headers are applied consistently to every
+            endpoint of the application, not only to its root.
+
+            The routes mapped by the application are crawled with safe GET
+            requests (bounded in number and concurrency) and the effective
+            response headers are aggregated per route pattern.
+            """,
+            CheckTier.PREMIUM
+        );
+
+    // Rutas listadas por incidencia en el mensaje; el resto se resume como "+N more"
+    private static final int MAX_LISTED_ROUTES = 5;
+
+    private final HttpProbe httpProbe;
+    private final EndpointCrawler.Limits limits;
+
+    // Constructor de producción
+    public EffectiveRouteHeadersCheck() {
+        this(JdkHttpProbe.withDefaults());
+    }
+
+    EffectiveRouteHeadersCheck(HttpProbe httpProbe) {
+        this(httpProbe, EndpointCrawler.Limits.DEFAULTS);
+    }
+
+    EffectiveRouteHeadersCheck(HttpProbe httpProbe, EndpointCrawler.Limits limits) {
+        this.httpProbe = httpProbe;
+        this.limits = limits;
+    }
+
+    /**
+     * Nothing is prefetched: the crawl sends its own requests, within its concurrency cap.
+     */
+    @Override
+    public List<HttpRequest> probeRequests(ProdGuardContext ctx) {
+        return List.of();
+    }
+
+    @Override
+    public Optional<CheckResult> check(ProdGuardContext ctx) {
+
+        Optional<Integer> portOpt = ctx.getLocalServerPort();
+        if (portOpt.isEmpty()) {
+            return Optional.of(new CheckResult(
+                DESCRIPTOR,
+                "Local server port not available",
+                "Endpoint crawling requires a running web server"
+            ));
+        }
+
+        List<HttpRoute> routes = ctx.getRoutes();
+        if (routes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ProbeTarget local = ProbeTarget.local(portOpt.get(), ctx);
+        String baseUrl = local.baseUrl();
+
+        EndpointCrawler.Crawl crawl;
+        try {
+            crawl = new EndpointCrawler(httpProbe, limits).crawl(baseUrl, routes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        if (crawl.responses().isEmpty() && isUnreachable(crawl)) {
+            return unreachable(baseUrl, crawl);
+        }
+
+        // Incidencia -> patrones de ruta afectados, en orden de ruta
+        Map<String, List<String>> issues = new LinkedHashMap<>();
+        for (HeaderRule rule : HeaderRule.forScheme(local.isHttps())) {
+            crawl.responses().forEach((pattern, response) -> {
+                if (!rule.test(ResponseHeaders.of(response))) {
+                    issues.computeIfAbsent(rule.issue(), k -> new ArrayList<>()).add(pattern);
+                }
+            });
+        }
+        if (!crawl.failures().isEmpty()) {
+            issues.put("probe failed", List.copyOf(crawl.failures().keySet()));
+        }
+
+        if (issues.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new CheckResult(
+            DESCRIPTOR,
+            summary(crawl, issues),
+            "Apply security headers globally (e.g. Spring Security headers() or a servlet filter)"
+                + " so every endpoint returns them"
+        ));
+    }
+
+    private static boolean isUnreachable(EndpointCrawler.Crawl crawl) {
+        return !crawl.failures().isEmpty()
+            && crawl.failures().values().iterator().next() instanceof ProbeUnreachableException;
+    }
+
+    /**
+     * No route answered because the target refuses connections: reported once per run,
+     * like the other runtime checks do.
+     */
+    private Optional<CheckResult> unreachable(String baseUrl, EndpointCrawler.Crawl crawl) {
+        String path = crawl.failures().keySet().iterator().next();
+        try {
+            // A shared session answers from its memoized failure and decides who reports it
+            httpProbe.send(ProbeRequests.get(baseUrl + path));
+            return Optional.empty();
+        } catch (ProbeUnreachableException e) {
+            return Optional.of(e.toResult(DESCRIPTOR));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String summary(EndpointCrawler.Crawl crawl, Map<String, List<String>> issues) {
+        int probed = crawl.responses().size() + crawl.failures().size();
+        StringBuilder message = new StringBuilder("Security headers are not applied consistently across ")
+            .append(probed).append(probed == 1 ? " crawled route" : " crawled routes").append(": ");
+
+        String separator = "";
+        for (Map.Entry<String, List<String>> issue : issues.entrySet()) {
+            List<String> patterns = issue.getValue();
+            message.append(separator).append(issue.getKey()).append(" on ")
+                .append(String.join(", ", patterns.subList(0, Math.min(MAX_LISTED_ROUTES, patterns.size()))));
+            if (patterns.size() > MAX_LISTED_ROUTES) {
+                message.append(" (+").append(patterns.size() - MAX_LISTED_ROUTES).append(" more)");
+            }
+            separator = "; ";
+        }
+
+        if (!crawl.notProbed().isEmpty()) {
+            message.append(". ").append(crawl.notProbed().size()).append(" of ")
+                .append(crawl.candidates())
+                .append(" GET routes were not probed (prodguard.crawl.max-requests / prodguard.crawl.timeout)");
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,168 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.CheckTier;
+import com.prodguard.core.ProdGuardContext;
+import com.prodguard.core.Severity;
+
+public class EffectiveServingPathCheck implements ProbingCheck {
+
+    public static final CheckDescriptor DESCRIPTOR =
+        new CheckDescriptor(
+            "PG-211",
+            "Consistent security headers along the serving path",
+            Severity.WARN,
+            """
+            Compares the security headers seen by clients at each hop of the
+            serving path: the local server, the public URL (ingress, load
+            balancer), peer instances and the management port.
+
+            All targets are probed in parallel and the effective headers are
+            diffed per target, revealing protections that only some hops
+            apply (e.g. HSTS added at the ingress but missing on the pod).
+            """,
+            CheckTier.PREMIUM
+        );
+
+    private final HttpProbe httpProbe;
+    private final ProbeTarget.Settings settings;
+
+    // Constructor de producción
+    public EffectiveServingPathCheck() {
+        this(JdkHttpProbe.withDefaults());
+    }
+
+    EffectiveServingPathCheck(HttpProbe httpProbe) {
+        this(httpProbe, ProbeTarget.Settings.DEFAULTS);
+    }
+
+    EffectiveServingPathCheck(HttpProbe httpProbe, ProbeTarget.Settings settings) {
+        this.httpProbe = httpProbe;
+        this.settings = settings;
+    }
+
+    @Override
+    public List<HttpRequest> probeRequests(ProdGuardContext ctx) {
+        List<ProbeTarget> targets = ProbeTarget.all(ctx, settings);
+        return targets.size() < 2
+            ? List.of()
+            : targets.stream().map(ProbeTarget::request).toList();
+    }
+
+    @Override
+    public Optional<CheckResult> check(ProdGuardContext ctx) {
+
+        if (ctx.getLocalServerPort().isEmpty()) {
+            return Optional.of(new CheckResult(
+                DESCRIPTOR,
+                "Local server port not available",
+                "Serving path comparison requires a running web server"
+            ));
+        }
+
+        List<ProbeTarget> targets = ProbeTarget.all(ctx, settings);
+        if (targets.size() < 2) {
+            // Solo el servidor local: nada que comparar
+            return Optional.empty();
+        }
+
+        // Todos los targets en paralelo antes de esperar a ninguno
+        Map<ProbeTarget, CompletableFuture<HttpResponse<Void>>> pending = new LinkedHashMap<>();
+        for (ProbeTarget target : targets) {
+            pending.put(target, send(target.request()));
+        }
+
+        Map<ProbeTarget, ResponseHeaders> responded = new LinkedHashMap<>();
+        List<String> unreachable = new ArrayList<>();
+        for (Map.Entry<ProbeTarget, CompletableFuture<HttpResponse<Void>>> entry : pending.entrySet()) {
+            ProbeTarget target = entry.getKey();
+            try {
+                responded.put(target, ResponseHeaders.of(entry.getValue().get()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            } catch (CancellationException e) {
+                // Sesión reiniciada: la ejecución se ha abortado
+                return Optional.empty();
+            } catch (ExecutionException e) {
+                // El servidor local inaccesible ya lo reportan los checks de la raíz
+                if (!"local".equals(target.name())) {
+                    unreachable.add(target + ": " + describe(e.getCause()));
+                }
+            }
+        }
+
+        List<String> differences = new ArrayList<>();
+        if (responded.size() > 1) {
+            // Conjunto completo en todos los hops: el que termina TLS debe añadir HSTS y Secure
+            for (HeaderRule rule : HeaderRule.forScheme(true)) {
+                Map<Boolean, List<String>> byOutcome = responded.entrySet().stream()
+                    .collect(Collectors.partitioningBy(
+                        e -> rule.test(e.getValue()),
+                        Collectors.mapping(e -> e.getKey().name(), Collectors.toList())
+                    ));
+                if (!byOutcome.get(true).isEmpty() && !byOutcome.get(false).isEmpty()) {
+                    differences.add(rule.feature()
+                        + " present at " + String.join(", ", byOutcome.get(true))
+                        + ", missing at " + String.join(", ", byOutcome.get(false)));
+                }
+            }
+        }
+
+        if (differences.isEmpty() && unreachable.isEmpty()) {
+            return Optional.empty();
+        }
+
+        StringBuilder message = new StringBuilder();
+        if (!differences.isEmpty()) {
+            message.append("Security headers differ along the serving path: ")
+                .append(String.join("; ", differences))
+                .append(". Targets: ")
+                .append(responded.keySet().stream().map(ProbeTarget::toString).collect(Collectors.joining(", ")));
+        }
+        if (!unreachable.isEmpty()) {
+            message.append(message.isEmpty() ? "" : ". ")
+                .append("Unreachable probe targets: ")
+                .append(String.join("; ", unreachable));
+        }
+
+        return Optional.of(new CheckResult(
+            DESCRIPTOR,
+            message.toString(),
+            differences.isEmpty()
+                ? "Verify prodguard.probe.public-url and prodguard.probe.peers point at reachable instances"
+                : "Apply security headers in one layer for every hop (application or ingress),"
+                    + " or configure the hops that drop them"
+        ));
+    }
+
+    private CompletableFuture<HttpResponse<Void>> send(HttpRequest request) {
+        try {
+            return httpProbe.sendAsync(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static String describe(Throwable failure) {
+        if (failure == null) {
+            return "request failed";
+        }
+        return failure.getMessage() == null
+            ? failure.getClass().getSimpleName()
+            : failure.getMessage();
+    }
+}
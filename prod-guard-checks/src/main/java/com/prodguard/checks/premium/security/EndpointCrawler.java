@@ -0,0 +1,187 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.prodguard.core.HttpRoute;
+
+/**
+ * Probes the routes of the running application with bounded concurrency.
+ * <p>
+ * Only safe probes are built: a {@code GET} per route that accepts it and whose pattern
+ * is a concrete path. Patterns with path variables or wildcards are skipped rather than
+ * guessed, so the crawl never invents identifiers or reaches handlers it cannot name.
+ * <p>
+ * Three {@link Limits} keep a service with thousands of endpoints within the guard budget:
+ * at most {@code maxRequests} routes are probed, at most {@code concurrency} requests are
+ * in flight at once, and no new request is started once {@code timeout} has elapsed.
+ * Routes left out by any of them are reported as {@link Crawl#notProbed() not probed}.
+ * <p>
+ * Requests go through the given {@link HttpProbe}; with a {@link ProbeSession} a route
+ * already probed by another check in the run is answered from its memoized response.
+ * Requests still in flight when the crawl times out are abandoned, not cancelled, since a
+ * session may share them with other checks; the session cancels them when it is reset.
+ */
+public final class EndpointCrawler {
+
+    private final HttpProbe probe;
+    private final int maxRequests;
+    private final int concurrency;
+    private final Duration timeout;
+
+    public EndpointCrawler(HttpProbe probe, Limits limits) {
+        this.probe = probe;
+        this.maxRequests = limits.maxRequests();
+        this.concurrency = limits.concurrency();
+        this.timeout = limits.timeout();
+    }
+
+    public EndpointCrawler(HttpProbe probe, int maxRequests, int concurrency, Duration timeout) {
+        this(probe, new Limits(maxRequests, concurrency, timeout));
+    }
+
+    /**
+     * Concrete paths of the routes that can be probed with a {@code GET}, de-duplicated,
+     * in route order.
+     */
+    static List<String> probeablePaths(List<HttpRoute> routes) {
+        Set<String> paths = new LinkedHashSet<>();
+        for (HttpRoute route : routes) {
+            String pattern = route.pattern();
+            if (!route.accepts("GET") || pattern == null || isTemplated(pattern)) {
+                continue;
+            }
+            paths.add(pattern.startsWith("/") ? pattern : "/" + pattern);
+        }
+        return List.copyOf(paths);
+    }
+
+    private static boolean isTemplated(String pattern) {
+        return pattern.indexOf('{') >= 0 || pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0;
+    }
+
+    /**
+     * Probes the routes under {@code baseUrl} (scheme, host, port and context path, without
+     * a trailing slash) and waits for the responses until the crawl timeout.
+     */
+    public Crawl crawl(String baseUrl, List<HttpRoute> routes) throws InterruptedException {
+        List<String> paths = probeablePaths(routes);
+        List<String> selected = paths.subList(0, Math.min(maxRequests, paths.size()));
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Semaphore permits = new Semaphore(concurrency);
+        Map<String, CompletableFuture<HttpResponse<Void>>> sent = new LinkedHashMap<>();
+
+        for (String path : selected) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !permits.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                break;
+            }
+            CompletableFuture<HttpResponse<Void>> response = send(ProbeRequests.get(baseUrl + path));
+            response.whenComplete((r, failure) -> permits.release());
+            sent.put(path, response);
+        }
+
+        try {
+            CompletableFuture.allOf(sent.values().toArray(CompletableFuture[]::new))
+                .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Failures are collected per route below; late responses count as not probed
+        }
+
+        Map<String, HttpResponse<Void>> responses = new LinkedHashMap<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        List<String> notProbed = new ArrayList<>();
+        sent.forEach((path, response) -> {
+            if (!response.isDone()) {
+                notProbed.add(path);
+            } else if (response.isCompletedExceptionally()) {
+                failures.put(path, failure(response));
+            } else {
+                responses.put(path, response.join());
+            }
+        });
+        paths.stream().filter(path -> !sent.containsKey(path)).forEach(notProbed::add);
+
+        return new Crawl(paths.size(), responses, failures, notProbed);
+    }
+
+    private CompletableFuture<HttpResponse<Void>> send(HttpRequest request) {
+        try {
+            return probe.sendAsync(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable failure(CompletableFuture<?> response) {
+        try {
+            response.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause() == null ? e : e.getCause();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Bounds of a crawl.
+     *
+     * @param maxRequests routes probed at most, {@code >= 0}
+     * @param concurrency probes in flight at once, {@code >= 1}
+     * @param timeout     no probe is started after this long
+     */
+    public record Limits(int maxRequests, int concurrency, Duration timeout) {
+
+        public static final Limits DEFAULTS = new Limits(100, 8, Duration.ofSeconds(10));
+
+        public Limits {
+            if (maxRequests < 0) {
+                throw new IllegalArgumentException("maxRequests must be >= 0, got " + maxRequests);
+            }
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be >= 1, got " + concurrency);
+            }
+            if (timeout == null || timeout.isNegative()) {
+                throw new IllegalArgumentException("timeout must not be negative, got " + timeout);
+            }
+        }
+    }
+
+    /**
+     * Outcome of a crawl, keyed by route pattern in route order.
+     *
+     * @param candidates number of routes that could be probed with a {@code GET}
+     * @param responses  routes that answered, whatever their status code
+     * @param failures   routes whose probe failed
+     * @param notProbed  routes left out by the request cap or the crawl timeout
+     */
+    public record Crawl(
+            int candidates,
+            Map<String, HttpResponse<Void>> responses,
+            Map<String, Throwable> failures,
+            List<String> notProbed
+    ) {
+
+        public Crawl {
+            responses = Collections.unmodifiableMap(new LinkedHashMap<>(responses));
+            failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+            notProbed = List.copyOf(notProbed);
+        }
+    }
+}
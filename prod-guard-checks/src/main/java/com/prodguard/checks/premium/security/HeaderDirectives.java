@@ -0,0 +1,88 @@
+package com.prodguard.checks.premium.security;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A header value made of directives, e.g. {@code default-src 'self'; frame-ancestors 'none'}
+ * or {@code max-age=31536000; includeSubDomains}. Directive names are lower-cased; a
+ * directive's value is what follows its name after {@code =} or whitespace, trimmed and
+ * unquoted, and empty for bare flags. When a directive repeats, the first one wins.
+ */
+public final class HeaderDirectives {
+
+    private final Map<String, String> directives;
+
+    private HeaderDirectives(Map<String, String> directives) {
+        this.directives = directives;
+    }
+
+    /**
+     * Parses {@code value} as directives separated by {@code separator}.
+     */
+    public static HeaderDirectives parse(String value, char separator) {
+        Map<String, String> directives = new LinkedHashMap<>();
+        int start = 0;
+        int length = value.length();
+        while (start <= length) {
+            int end = value.indexOf(separator, start);
+            if (end < 0) {
+                end = length;
+            }
+            add(directives, value, start, end);
+            start = end + 1;
+        }
+        return new HeaderDirectives(Collections.unmodifiableMap(directives));
+    }
+
+    public boolean has(String name) {
+        return directives.containsKey(name);
+    }
+
+    public Optional<String> get(String name) {
+        return Optional.ofNullable(directives.get(name));
+    }
+
+    public Map<String, String> asMap() {
+        return directives;
+    }
+
+    private static void add(Map<String, String> directives, String value, int start, int end) {
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+
+        int nameEnd = start;
+        while (nameEnd < end && value.charAt(nameEnd) != '=' && !Character.isWhitespace(value.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        String name = value.substring(start, nameEnd).toLowerCase(Locale.ROOT);
+
+        int valueStart = nameEnd;
+        while (valueStart < end && Character.isWhitespace(value.charAt(valueStart))) {
+            valueStart++;
+        }
+        if (valueStart < end && value.charAt(valueStart) == '=') {
+            valueStart++;
+            while (valueStart < end && Character.isWhitespace(value.charAt(valueStart))) {
+                valueStart++;
+            }
+        }
+        int valueEnd = end;
+        if (valueEnd - valueStart >= 2 && value.charAt(valueStart) == '"' && value.charAt(valueEnd - 1) == '"') {
+            valueStart++;
+            valueEnd--;
+        }
+
+        directives.putIfAbsent(name, value.substring(valueStart, valueEnd));
+    }
+}
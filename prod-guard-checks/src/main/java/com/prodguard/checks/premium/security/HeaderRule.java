@@ -0,0 +1,58 @@
+package com.prodguard.checks.premium.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A security header expectation evaluated against a single response, shared by the checks
+ * that compare many responses (per route, per target).
+ *
+ * @param feature     what the response provides when the rule holds, e.g. {@code Strict-Transport-Security}
+ * @param issue       how a response breaking the rule is described
+ * @param satisfiedBy the rule itself
+ */
+record HeaderRule(String feature, String issue, Predicate<ResponseHeaders> satisfiedBy) {
+
+    /**
+     * Rules applicable to responses served over the given scheme: HSTS and the cookie
+     * {@code Secure} flag are only expected over HTTPS.
+     */
+    static List<HeaderRule> forScheme(boolean https) {
+        List<HeaderRule> rules = new ArrayList<>(List.of(
+            new HeaderRule("X-Content-Type-Options: nosniff", "missing X-Content-Type-Options: nosniff",
+                headers -> headers
+                    .first("X-Content-Type-Options")
+                    .map(v -> v.trim().equalsIgnoreCase("nosniff"))
+                    .orElse(false)),
+            new HeaderRule("clickjacking protection", "no clickjacking protection",
+                HeaderRule::framingRestricted),
+            new HeaderRule(
+                https ? "HttpOnly/Secure cookies" : "HttpOnly cookies",
+                https ? "cookies without HttpOnly/Secure" : "cookies without HttpOnly",
+                headers -> headers.cookies().stream()
+                    .allMatch(c -> c.has("httponly") && (!https || c.has("secure"))))
+        ));
+        if (https) {
+            rules.add(new HeaderRule("Strict-Transport-Security", "missing Strict-Transport-Security",
+                headers -> headers.strictTransportSecurity().isPresent()));
+        }
+        return rules;
+    }
+
+    boolean test(ResponseHeaders headers) {
+        return satisfiedBy.test(headers);
+    }
+
+    private static boolean framingRestricted(ResponseHeaders headers) {
+        Optional<String> xfo = headers.first("X-Frame-Options").map(v -> v.toLowerCase(Locale.ROOT));
+        if (xfo.isPresent()) {
+            return xfo.get().contains("deny") || xfo.get().contains("sameorigin");
+        }
+        return headers.contentSecurityPolicy()
+            .map(policy -> policy.has("frame-ancestors"))
+            .orElse(false);
+    }
+}
@@ -1,8 +1,21 @@
-package com.prodguard.checks.premium.security;
-
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-
-public interface HttpProbe {
-    HttpResponse<Void> send(HttpRequest request) throws Exception;
-}
+package com.prodguard.checks.premium.security;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+public interface HttpProbe {
+    HttpResponse<Void> send(HttpRequest request) throws Exception;
+
+    /**
+     * Sends the request without blocking the caller. The default implementation falls back
+     * to {@link #send(HttpRequest)} and is only suitable for in-memory probes.
+     */
+    default CompletableFuture<HttpResponse<Void>> sendAsync(HttpRequest request) {
+        try {
+            return CompletableFuture.completedFuture(send(request));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -1,19 +1,45 @@
-package com.prodguard.checks.premium.security;
-
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-
-class JdkHttpProbe implements HttpProbe {
-
-    private final HttpClient client;
-
-    JdkHttpProbe(HttpClient client) {
-        this.client = client;
-    }
-
-    @Override
-    public HttpResponse<Void> send(HttpRequest request) throws Exception {
-        return client.send(request, HttpResponse.BodyHandlers.discarding());
-    }
-}
+package com.prodguard.checks.premium.security;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+class JdkHttpProbe implements HttpProbe {
+
+    private final HttpClient client;
+
+    JdkHttpProbe(HttpClient client) {
+        this.client = client;
+    }
+
+    static JdkHttpProbe withDefaults() {
+        return new JdkHttpProbe(
+            HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(3))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build()
+        );
+    }
+
+    @Override
+    public HttpResponse<Void> send(HttpRequest request) throws Exception {
+        ProbeRequestEvent event = ProbeRequestEvent.start();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            event.end(request, response, null);
+            return response;
+        } catch (Exception e) {
+            event.end(request, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<Void>> sendAsync(HttpRequest request) {
+        ProbeRequestEvent event = ProbeRequestEvent.start();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, failure) -> event.end(request, response, failure));
+    }
+}
@@ -0,0 +1,56 @@
+package com.prodguard.checks.premium.security;
+
+/**
+ * Creates the runtime security checks around a given {@link HttpProbe}, normally the
+ * {@link ProbeSession} shared by every check of a run. The checks' public constructors
+ * each open their own HTTP client; the probe-taking ones stay package-private.
+ */
+public final class PremiumSecurityChecks {
+
+    private PremiumSecurityChecks() {
+    }
+
+    public static EffectiveHttpsCheck https(HttpProbe probe) {
+        return new EffectiveHttpsCheck(probe);
+    }
+
+    public static EffectiveHstsCheck hsts(HttpProbe probe) {
+        return new EffectiveHstsCheck(probe);
+    }
+
+    public static EffectiveCspCheck csp(HttpProbe probe) {
+        return new EffectiveCspCheck(probe);
+    }
+
+    public static EffectiveSecurityHeadersCheck securityHeaders(HttpProbe probe) {
+        return new EffectiveSecurityHeadersCheck(probe);
+    }
+
+    public static EffectiveCookieFlagsCheck cookieFlags(HttpProbe probe) {
+        return new EffectiveCookieFlagsCheck(probe);
+    }
+
+    public static EffectiveXFrameOptionsCheck xFrameOptions(HttpProbe probe) {
+        return new EffectiveXFrameOptionsCheck(probe);
+    }
+
+    public static EffectiveReferrerPolicyCheck referrerPolicy(HttpProbe probe) {
+        return new EffectiveReferrerPolicyCheck(probe);
+    }
+
+    public static EffectivePermissionsPolicyCheck permissionsPolicy(HttpProbe probe) {
+        return new EffectivePermissionsPolicyCheck(probe);
+    }
+
+    public static EffectiveCrossOriginOpenerPolicyCheck crossOriginOpenerPolicy(HttpProbe probe) {
+        return new EffectiveCrossOriginOpenerPolicyCheck(probe);
+    }
+
+    public static EffectiveRouteHeadersCheck routeHeaders(HttpProbe probe, EndpointCrawler.Limits limits) {
+        return new EffectiveRouteHeadersCheck(probe, limits);
+    }
+
+    public static EffectiveServingPathCheck servingPath(HttpProbe probe, ProbeTarget.Settings settings) {
+        return new EffectiveServingPathCheck(probe, settings);
+    }
+}
@@ -0,0 +1,98 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.nio.channels.UnresolvedAddressException;
+import java.security.GeneralSecurityException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLPeerUnverifiedException;
+
+/**
+ * Tracks probe targets (scheme, host and port) that failed to connect during a run.
+ * <p>
+ * After the first connect failure the circuit for that target opens: further probes
+ * fail immediately instead of waiting for their own connect timeout, and only the first
+ * check to observe the failure reports it.
+ */
+public class ProbeCircuitBreaker {
+
+    private final ConcurrentMap<String, Throwable> open = new ConcurrentHashMap<>();
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    public boolean isOpen(String target) {
+        return open.containsKey(target);
+    }
+
+    public Throwable failure(String target) {
+        return open.get(target);
+    }
+
+    public void trip(String target, Throwable failure) {
+        open.putIfAbsent(target, failure);
+    }
+
+    /**
+     * Returns {@code true} exactly once per open target: for the caller that reports it.
+     */
+    public boolean claimReport(String target) {
+        return reported.add(target);
+    }
+
+    public void reset() {
+        open.clear();
+        reported.clear();
+    }
+
+    public static String target(URI uri) {
+        String scheme = uri.getScheme() == null ? "http" : uri.getScheme().toLowerCase();
+        int port = uri.getPort() != -1
+                ? uri.getPort()
+                : "https".equals(scheme) ? 443 : 80;
+        return scheme + "://" + uri.getHost() + ":" + port;
+    }
+
+    /**
+     * Whether the failure means the target does not accept connections at all, as opposed
+     * to a slow or failing response. TLS failures count only when the handshake itself
+     * could not take place (e.g. plain HTTP on a TLS port); certificate and hostname
+     * verification failures are findings of the check that saw them.
+     */
+    public static boolean isConnectFailure(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof SSLException ssl) {
+                return !isVerificationFailure(ssl);
+            }
+            if (t instanceof ConnectException
+                    || t instanceof HttpConnectTimeoutException
+                    || t instanceof UnknownHostException
+                    || t instanceof NoRouteToHostException
+                    || t instanceof UnresolvedAddressException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVerificationFailure(SSLException failure) {
+        if (failure instanceof SSLPeerUnverifiedException) {
+            return true;
+        }
+        // CertificateException, CertPathValidatorException and the JDK validator's own failures
+        for (Throwable t = failure.getCause(); t != null && t != t.getCause(); t = t.getCause()) {
+            if (t instanceof GeneralSecurityException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.prodguard.checks.premium.security;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckResult;
+
+/**
+ * Thrown instead of probing a target that already failed to connect during this run.
+ * Checks receiving it report a SKIPPED result: the failure was already reported once.
+ */
+public class ProbeCircuitOpenException extends ProbeUnreachableException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ProbeCircuitOpenException(String target, Throwable cause) {
+        super(target, cause);
+    }
+
+    @Override
+    public CheckResult toResult(CheckDescriptor descriptor) {
+        return skipped(descriptor, null);
+    }
+}
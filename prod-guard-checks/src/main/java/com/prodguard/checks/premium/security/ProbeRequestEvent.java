@@ -0,0 +1,81 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletionException;
+
+import javax.net.ssl.SSLSession;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one probe request on the wire, from send until the response
+ * headers arrive (or the request fails).
+ * <p>
+ * {@link java.net.http.HttpClient} does not expose connect and handshake phases, so the
+ * duration covers both; the negotiated TLS protocol and cipher identify HTTPS probes and
+ * can be correlated with the JDK's own {@code jdk.TLSHandshake} events on the same timeline.
+ */
+@Name("com.prodguard.ProbeRequest")
+@Label("Prod Guard Probe Request")
+@Category("Prod Guard")
+@Description("HTTP request sent by a prod-guard runtime check")
+final class ProbeRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("TLS Protocol")
+    String tlsProtocol;
+
+    @Label("Cipher Suite")
+    String cipherSuite;
+
+    @Label("Connect Failure")
+    boolean connectFailure;
+
+    @Label("Failure")
+    String failure;
+
+    static ProbeRequestEvent start() {
+        ProbeRequestEvent event = new ProbeRequestEvent();
+        event.begin();
+        return event;
+    }
+
+    void end(HttpRequest request, HttpResponse<?> response, Throwable error) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        method = request.method();
+        uri = request.uri().toString();
+        if (response != null) {
+            status = response.statusCode();
+            response.sslSession().ifPresent(this::tls);
+        }
+        if (error != null) {
+            if (error instanceof CompletionException && error.getCause() != null) {
+                error = error.getCause();
+            }
+            connectFailure = ProbeCircuitBreaker.isConnectFailure(error);
+            failure = error.toString();
+        }
+        commit();
+    }
+
+    private void tls(SSLSession session) {
+        tlsProtocol = session.getProtocol();
+        cipherSuite = session.getCipherSuite();
+    }
+}
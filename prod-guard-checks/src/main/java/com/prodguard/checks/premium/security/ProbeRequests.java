@@ -0,0 +1,37 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * Canonical probe requests. Checks build their requests here so that identical probes
+ * are recognised, and shared, by a {@link ProbeSession}.
+ */
+public final class ProbeRequests {
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private ProbeRequests() {
+    }
+
+    public static HttpRequest get(String url) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    public static HttpRequest httpsRoot(int port) {
+        return get("https://localhost:" + port + "/");
+    }
+
+    public static HttpRequest httpRoot(int port) {
+        return get("http://localhost:" + port + "/");
+    }
+
+    public static HttpRequest http(int port, String path) {
+        return get("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,249 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import javax.net.ssl.SSLSession;
+
+import com.prodguard.core.CheckDescriptor;
+
+/**
+ * Per-run {@link HttpProbe} shared by all runtime checks.
+ * <p>
+ * Each distinct request (method + URI) is sent once, asynchronously; every check asking
+ * for the same request receives the memoized response, or the memoized failure.
+ * Callers arriving while a request is in flight wait for it instead of issuing their own.
+ * The header model of a memoized response ({@link ResponseHeaders#of(HttpResponse)}) is
+ * shared too, so each structured header is parsed once per run.
+ * {@link #prefetch(Collection)} fires a batch of requests concurrently so the network
+ * round trips of a run overlap.
+ * <p>
+ * Targets that refuse connections trip a {@link ProbeCircuitBreaker}: later probes to
+ * them fail immediately and an unreachable port yields one consolidated result. Its
+ * owner is fixed: among the checks that declared requests to the target through
+ * {@link #prefetch(CheckDescriptor, Collection)} before any check saw the failure, the one
+ * with the highest severity (lowest code on ties), whatever order the checks run in. Checks
+ * declaring requests later, e.g. in a later stage, cannot take over a report already
+ * made. Every other check gets a
+ * SKIPPED result. For targets nobody declared, the first check to see the failure
+ * reports it and the others receive a {@link ProbeCircuitOpenException}.
+ * <p>
+ * The session must be {@link #reset() reset} between runs so a new run observes the
+ * current state of the server. Resetting also cancels requests still in flight, e.g.
+ * when a run is aborted early.
+ */
+public class ProbeSession implements HttpProbe {
+
+    private final HttpProbe delegate;
+    private final ProbeCircuitBreaker circuitBreaker = new ProbeCircuitBreaker();
+    private final ConcurrentMap<String, CompletableFuture<HttpResponse<Void>>> responses =
+        new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<HttpResponse<Void>>> inFlight = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, CheckDescriptor> owners = new ConcurrentHashMap<>();
+    // Targets whose failure was already handed to a check: their report owner can no longer change
+    private final Set<String> settled = ConcurrentHashMap.newKeySet();
+
+    public ProbeSession() {
+        this(JdkHttpProbe.withDefaults());
+    }
+
+    public ProbeSession(HttpProbe delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public HttpResponse<Void> send(HttpRequest request) throws Exception {
+        try {
+            return await(sendAsync(request));
+        } catch (ProbeUnreachableException e) {
+            settled.add(e.target());
+            CheckDescriptor owner = owners.get(e.target());
+            if (owner != null) {
+                throw new ProbeUnreachableException(e.target(), e.getCause(), owner.code());
+            }
+            if (circuitBreaker.claimReport(e.target())) {
+                throw e;
+            }
+            throw new ProbeCircuitOpenException(e.target(), e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<Void>> sendAsync(HttpRequest request) {
+        String key = key(request);
+
+        CompletableFuture<HttpResponse<Void>> pending = new CompletableFuture<>();
+        CompletableFuture<HttpResponse<Void>> existing = responses.putIfAbsent(key, pending);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        String target = ProbeCircuitBreaker.target(request.uri());
+        if (circuitBreaker.isOpen(target)) {
+            pending.completeExceptionally(
+                new ProbeUnreachableException(target, circuitBreaker.failure(target))
+            );
+            return pending;
+        }
+
+        CompletableFuture<HttpResponse<Void>> sent = send(delegate, request);
+        inFlight.add(sent);
+        sent.whenComplete((response, failure) -> {
+            inFlight.remove(sent);
+            if (failure == null) {
+                pending.complete(new SharedResponse(response));
+                return;
+            }
+            Throwable cause = unwrap(failure);
+            if (ProbeCircuitBreaker.isConnectFailure(cause)) {
+                circuitBreaker.trip(target, cause);
+                pending.completeExceptionally(new ProbeUnreachableException(target, cause));
+            } else {
+                pending.completeExceptionally(cause);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Fires all given requests without waiting for them. Requests already sent in this
+     * session are not repeated.
+     */
+    public void prefetch(Collection<HttpRequest> requests) {
+        requests.forEach(this::sendAsync);
+    }
+
+    /**
+     * Like {@link #prefetch(Collection)}, additionally registering the check sending the
+     * requests as a candidate owner of the unreachable report for their targets.
+     */
+    public void prefetch(CheckDescriptor subscriber, Collection<HttpRequest> requests) {
+        for (HttpRequest request : requests) {
+            String target = ProbeCircuitBreaker.target(request.uri());
+            if (!settled.contains(target)) {
+                owners.merge(target, subscriber, ProbeSession::owner);
+            }
+        }
+        prefetch(requests);
+    }
+
+    /**
+     * Cancels requests still in flight, forgets every memoized response and report owner
+     * and closes all circuits.
+     */
+    public void reset() {
+        inFlight.forEach(request -> request.cancel(true));
+        inFlight.clear();
+        responses.clear();
+        owners.clear();
+        settled.clear();
+        circuitBreaker.reset();
+    }
+
+    private static CheckDescriptor owner(CheckDescriptor current, CheckDescriptor candidate) {
+        int bySeverity = candidate.severity().compareTo(current.severity());
+        if (bySeverity != 0) {
+            return bySeverity > 0 ? candidate : current;
+        }
+        return candidate.code().compareTo(current.code()) < 0 ? candidate : current;
+    }
+
+    private static CompletableFuture<HttpResponse<Void>> send(HttpProbe probe, HttpRequest request) {
+        try {
+            return probe.sendAsync(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    static String key(HttpRequest request) {
+        return request.method() + " " + request.uri();
+    }
+
+    private static HttpResponse<Void> await(CompletableFuture<HttpResponse<Void>> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+    }
+
+    /**
+     * A memoized response carrying the header model shared by the checks that receive it.
+     */
+    static final class SharedResponse implements HttpResponse<Void> {
+
+        private final HttpResponse<Void> response;
+        private final ResponseHeaders parsedHeaders;
+
+        SharedResponse(HttpResponse<Void> response) {
+            this.response = response;
+            this.parsedHeaders = new ResponseHeaders(response.headers());
+        }
+
+        ResponseHeaders parsedHeaders() {
+            return parsedHeaders;
+        }
+
+        @Override
+        public int statusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return response.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<Void>> previousResponse() {
+            return response.previousResponse();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return response.headers();
+        }
+
+        @Override
+        public Void body() {
+            return response.body();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return response.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return response.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return response.version();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * A place the application is reachable at, probed to see what clients on that hop see.
+ * <p>
+ * Besides the local server, targets come from the given {@link Settings}:
+ * <ul>
+ *   <li>the public URL clients use, e.g. the ingress or load balancer</li>
+ *   <li>base URLs of other instances of the application</li>
+ *   <li>the management server, when it runs on its own port and is not turned off</li>
+ * </ul>
+ * Configured URLs are used as given, including any context path.
+ *
+ * @param name    short label used in results, e.g. {@code public} or {@code peer-2}
+ * @param baseUrl scheme, host, port and context path, without a trailing slash
+ * @param path    path probed under {@code baseUrl}
+ */
+public record ProbeTarget(String name, String baseUrl, String path) {
+
+    public ProbeTarget {
+        baseUrl = stripTrailingSlash(baseUrl);
+    }
+
+    /**
+     * The local server, over HTTPS when {@code server.ssl.enabled} is set.
+     */
+    public static ProbeTarget local(int port, ProdGuardContext ctx) {
+        boolean https = ctx.getBoolean("server.ssl.enabled").orElse(false);
+        return new ProbeTarget(
+            "local",
+            (https ? "https" : "http") + "://localhost:" + port
+                + normalizePath(ctx.getProperty("server.servlet.context-path").orElse("")),
+            "/"
+        );
+    }
+
+    /**
+     * Every target of the context, the local server first; empty without a local port.
+     */
+    public static List<ProbeTarget> all(ProdGuardContext ctx, Settings settings) {
+        Optional<Integer> port = ctx.getLocalServerPort();
+        if (port.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProbeTarget> targets = new ArrayList<>();
+        targets.add(local(port.get(), ctx));
+
+        Optional.ofNullable(settings.publicUrl())
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .ifPresent(url -> targets.add(new ProbeTarget("public", url, "/")));
+
+        List<String> peers = settings.peers();
+        for (int i = 0; i < peers.size(); i++) {
+            targets.add(new ProbeTarget("peer-" + (i + 1), peers.get(i), "/"));
+        }
+
+        if (settings.management()) {
+            management(ctx).ifPresent(targets::add);
+        }
+        return targets;
+    }
+
+    /**
+     * The management server's health endpoint; empty when management shares the main port.
+     */
+    static Optional<ProbeTarget> management(ProdGuardContext ctx) {
+        return ctx.getInt("local.management.port").map(port -> {
+            boolean https = ctx.getBoolean("management.server.ssl.enabled").orElse(false);
+            String basePath = normalizePath(ctx.getProperty("management.server.base-path").orElse(""));
+            String endpoints = normalizePath(ctx.getProperty("management.endpoints.web.base-path").orElse("/actuator"));
+            return new ProbeTarget(
+                "management",
+                (https ? "https" : "http") + "://localhost:" + port + basePath,
+                endpoints + "/health"
+            );
+        });
+    }
+
+    /**
+     * Targets probed besides the local server.
+     *
+     * @param publicUrl  base URL clients use to reach the application; {@code null} for none
+     * @param peers      base URLs of other instances of the application
+     * @param management whether to probe the management server when it has its own port
+     */
+    public record Settings(String publicUrl, List<String> peers, boolean management) {
+
+        public static final Settings DEFAULTS = new Settings(null, List.of(), true);
+
+        public Settings {
+            peers = peers == null
+                ? List.of()
+                : peers.stream().map(String::trim).filter(peer -> !peer.isEmpty()).toList();
+        }
+    }
+
+    public boolean isHttps() {
+        return baseUrl.regionMatches(true, 0, "https:", 0, 6);
+    }
+
+    public String url() {
+        return baseUrl + path;
+    }
+
+    public HttpRequest request() {
+        return ProbeRequests.get(url());
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + url() + ")";
+    }
+
+    private static String normalizePath(String path) {
+        String p = stripTrailingSlash(path.trim());
+        return p.isEmpty() || p.startsWith("/") ? p : "/" + p;
+    }
+
+    private static String stripTrailingSlash(String value) {
+        String v = value;
+        while (v.endsWith("/")) {
+            v = v.substring(0, v.length() - 1);
+        }
+        return v;
+    }
+}
@@ -0,0 +1,74 @@
+package com.prodguard.checks.premium.security;
+
+import java.io.IOException;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+
+/**
+ * A probe could not connect to its target (refused, connect timeout, TLS handshake
+ * failure). Carries the consolidated result reported once per target.
+ * <p>
+ * When the {@link ProbeSession} knows which check owns the report for the target, every
+ * other check receiving the exception gets a SKIPPED result from {@link #toResult}.
+ */
+public class ProbeUnreachableException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String target;
+    private final String owner;
+
+    public ProbeUnreachableException(String target, Throwable cause) {
+        this(target, cause, null);
+    }
+
+    /**
+     * @param owner code of the check that reports the target, {@code null} when the
+     *              receiver of this exception reports it
+     */
+    public ProbeUnreachableException(String target, Throwable cause, String owner) {
+        super(target + " is unreachable (" + describe(cause) + ")", cause);
+        this.target = target;
+        this.owner = owner;
+    }
+
+    public String target() {
+        return target;
+    }
+
+    /**
+     * The result of the given check for the unreachable target: the single consolidated
+     * finding for the check that owns it, SKIPPED for every other check.
+     */
+    public CheckResult toResult(CheckDescriptor descriptor) {
+        if (owner != null && !owner.equals(descriptor.code())) {
+            return skipped(descriptor, owner);
+        }
+        return new CheckResult(
+            descriptor,
+            "Runtime probes cannot connect to " + target + " (" + describe(getCause())
+                + "); remaining probes against it were skipped",
+            "Verify the application accepts connections on this scheme and port"
+                + " (TLS may be terminated at a proxy in front of it)",
+            CheckOutcome.UNREACHABLE
+        );
+    }
+
+    CheckResult skipped(CheckDescriptor descriptor, String reportedBy) {
+        return CheckResult.skipped(
+            descriptor,
+            target + " is unreachable" + (reportedBy == null ? "" : " (reported by " + reportedBy + ")")
+        );
+    }
+
+    private static String describe(Throwable cause) {
+        if (cause == null) {
+            return "connection failed";
+        }
+        return cause.getMessage() == null
+                ? cause.getClass().getSimpleName()
+                : cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+}
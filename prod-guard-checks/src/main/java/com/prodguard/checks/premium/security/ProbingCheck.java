@@ -0,0 +1,29 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * A runtime check that inspects live HTTP responses.
+ * <p>
+ * Declaring the requests up front lets the runner fire the probes of a stage
+ * concurrently through {@link ProbeSession#prefetch(java.util.Collection)} before the
+ * checks themselves are evaluated.
+ */
+public interface ProbingCheck extends ProdCheck {
+
+    /**
+     * Requests {@link #check(ProdGuardContext)} will send for this context; empty when the
+     * check cannot probe (e.g. no local server port).
+     */
+    List<HttpRequest> probeRequests(ProdGuardContext ctx);
+
+    @Override
+    default CheckCost cost() {
+        return CheckCost.NETWORK;
+    }
+}
@@ -0,0 +1,126 @@
+package com.prodguard.checks.premium.security;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Structured view of the headers of a probed response, shared by every check that
+ * inspects the same response.
+ * <p>
+ * Header names are matched case-insensitively by {@link HttpHeaders} itself, so the
+ * headers are never copied. Structured values are parsed on first access only and then
+ * kept; parsing the same value twice concurrently is harmless, both results being equal.
+ */
+public final class ResponseHeaders {
+
+    private final HttpHeaders headers;
+
+    private volatile Optional<HeaderDirectives> contentSecurityPolicy;
+    private volatile Optional<HeaderDirectives> strictTransportSecurity;
+    private volatile Optional<HeaderDirectives> permissionsPolicy;
+    private volatile Optional<String> referrerPolicy;
+    private volatile List<SetCookie> cookies;
+
+    public ResponseHeaders(HttpHeaders headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * The header model of a response: the one memoized with it when the response comes
+     * from a {@link ProbeSession}, a new one otherwise.
+     */
+    public static ResponseHeaders of(HttpResponse<?> response) {
+        return response instanceof ProbeSession.SharedResponse shared
+                ? shared.parsedHeaders()
+                : new ResponseHeaders(response.headers());
+    }
+
+    public boolean contains(String name) {
+        return headers.firstValue(name).isPresent();
+    }
+
+    public Optional<String> first(String name) {
+        return headers.firstValue(name);
+    }
+
+    public List<String> all(String name) {
+        return headers.allValues(name);
+    }
+
+    /**
+     * Directives of the first {@code Content-Security-Policy} header.
+     */
+    public Optional<HeaderDirectives> contentSecurityPolicy() {
+        Optional<HeaderDirectives> parsed = contentSecurityPolicy;
+        if (parsed == null) {
+            parsed = first("Content-Security-Policy").map(v -> HeaderDirectives.parse(v, ';'));
+            contentSecurityPolicy = parsed;
+        }
+        return parsed;
+    }
+
+    /**
+     * Directives of the first {@code Strict-Transport-Security} header.
+     */
+    public Optional<HeaderDirectives> strictTransportSecurity() {
+        Optional<HeaderDirectives> parsed = strictTransportSecurity;
+        if (parsed == null) {
+            parsed = first("Strict-Transport-Security").map(v -> HeaderDirectives.parse(v, ';'));
+            strictTransportSecurity = parsed;
+        }
+        return parsed;
+    }
+
+    /**
+     * Features of the first {@code Permissions-Policy} header, each mapped to its allowlist.
+     */
+    public Optional<HeaderDirectives> permissionsPolicy() {
+        Optional<HeaderDirectives> parsed = permissionsPolicy;
+        if (parsed == null) {
+            parsed = first("Permissions-Policy").map(v -> HeaderDirectives.parse(v, ','));
+            permissionsPolicy = parsed;
+        }
+        return parsed;
+    }
+
+    /**
+     * The policy a browser applies from the first {@code Referrer-Policy} header: the
+     * last token of its comma-separated list, lower-cased.
+     */
+    public Optional<String> referrerPolicy() {
+        Optional<String> parsed = referrerPolicy;
+        if (parsed == null) {
+            parsed = first("Referrer-Policy").map(ResponseHeaders::lastToken);
+            referrerPolicy = parsed;
+        }
+        return parsed;
+    }
+
+    /**
+     * Every {@code Set-Cookie} header, in order.
+     */
+    public List<SetCookie> cookies() {
+        List<SetCookie> parsed = cookies;
+        if (parsed == null) {
+            parsed = all("Set-Cookie").stream().map(SetCookie::parse).toList();
+            cookies = parsed;
+        }
+        return parsed;
+    }
+
+    private static String lastToken(String value) {
+        int end = value.length();
+        while (end > 0) {
+            int start = value.lastIndexOf(',', end - 1) + 1;
+            String token = value.substring(start, end).trim();
+            if (!token.isEmpty()) {
+                return token.toLowerCase(Locale.ROOT);
+            }
+            end = start - 1;
+        }
+        return "";
+    }
+}
@@ -0,0 +1,35 @@
+package com.prodguard.checks.premium.security;
+
+import java.util.Optional;
+
+/**
+ * A parsed {@code Set-Cookie} header: the cookie name and its attributes, names
+ * lower-cased ({@code secure}, {@code httponly}, {@code samesite}, ...). Flags have an
+ * empty value.
+ */
+public record SetCookie(String raw, String name, HeaderDirectives attributes) {
+
+    public static SetCookie parse(String header) {
+        int end = header.indexOf(';');
+        String pair = end < 0 ? header : header.substring(0, end);
+        int eq = pair.indexOf('=');
+        String name = (eq < 0 ? pair : pair.substring(0, eq)).trim();
+        HeaderDirectives attributes = end < 0
+                ? HeaderDirectives.parse("", ';')
+                : HeaderDirectives.parse(header.substring(end + 1), ';');
+        return new SetCookie(header, name, attributes);
+    }
+
+    public boolean has(String attribute) {
+        return attributes.has(attribute);
+    }
+
+    public Optional<String> attribute(String attribute) {
+        return attributes.get(attribute);
+    }
+
+    @Override
+    public String toString() {
+        return raw;
+    }
+}
@@ -0,0 +1,153 @@
+package com.prodguard.checks.premium.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.prodguard.checks.support.MockProdGuardContext;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.ProdGuardContext;
+
+class EffectiveRouteHeadersCheckTest {
+
+    private static final Map<String, List<String>> SECURE_HEADERS = Map.of(
+        "X-Content-Type-Options", List.of("nosniff"),
+        "X-Frame-Options", List.of("DENY")
+    );
+
+    @Test
+    void passesWhenEveryRouteReturnsSecurityHeaders() {
+        EffectiveRouteHeadersCheck check =
+            new EffectiveRouteHeadersCheck(req -> new StubHttpResponse(200, SECURE_HEADERS));
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8080)
+                .withRoute("/", "GET")
+                .withRoute("/api/orders", "GET");
+
+        assertThat(check.check(ctx)).isEmpty();
+    }
+
+    @Test
+    void aggregatesMissingHeadersPerRoutePattern() {
+        EffectiveRouteHeadersCheck check = new EffectiveRouteHeadersCheck(req ->
+            req.uri().getPath().startsWith("/api")
+                ? new StubHttpResponse(200, Map.of())
+                : new StubHttpResponse(200, SECURE_HEADERS)
+        );
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8080)
+                .withRoute("/", "GET")
+                .withRoute("/api/orders", "GET")
+                .withRoute("/api/customers")
+                .withRoute("/api/orders/{id}", "GET")
+                .withRoute("/api/orders", "POST");
+
+        Optional<CheckResult> result = check.check(ctx);
+
+        assertThat(result).isPresent();
+        String message = result.get().message();
+        assertThat(message).contains("3 crawled routes");
+        assertThat(message).contains("missing X-Content-Type-Options: nosniff on /api/orders, /api/customers");
+        assertThat(message).contains("no clickjacking protection on /api/orders, /api/customers");
+        assertThat(message).doesNotContain("{id}");
+    }
+
+    @Test
+    void requiresHstsAndSecureCookiesOverHttps() {
+        EffectiveRouteHeadersCheck check = new EffectiveRouteHeadersCheck(req -> new StubHttpResponse(
+            200,
+            Map.of(
+                "X-Content-Type-Options", List.of("nosniff"),
+                "X-Frame-Options", List.of("DENY"),
+                "Set-Cookie", List.of("SESSION=abc; Path=/; HttpOnly")
+            )
+        ));
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8443)
+                .withProperty("server.ssl.enabled", "true")
+                .withRoute("/account", "GET");
+
+        Optional<CheckResult> result = check.check(ctx);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().message()).contains("cookies without HttpOnly/Secure on /account");
+        assertThat(result.get().message()).contains("missing Strict-Transport-Security on /account");
+    }
+
+    @Test
+    void mentionsRoutesLeftOutByTheRequestCap() {
+        EffectiveRouteHeadersCheck check = new EffectiveRouteHeadersCheck(
+            req -> new StubHttpResponse(200, Map.of()),
+            new EndpointCrawler.Limits(1, 8, Duration.ofSeconds(10))
+        );
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8080)
+                .withRoute("/a", "GET")
+                .withRoute("/b", "GET");
+
+        Optional<CheckResult> result = check.check(ctx);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().message()).contains("1 of 2 GET routes were not probed");
+    }
+
+    @Test
+    void prefixesContextPath() {
+        EffectiveRouteHeadersCheck check = new EffectiveRouteHeadersCheck(req ->
+            req.uri().getPath().equals("/app/orders")
+                ? new StubHttpResponse(200, SECURE_HEADERS)
+                : new StubHttpResponse(200, Map.of())
+        );
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8080)
+                .withProperty("server.servlet.context-path", "/app/")
+                .withRoute("/orders", "GET");
+
+        assertThat(check.check(ctx)).isEmpty();
+    }
+
+    @Test
+    void passesWhenApplicationExposesNoRoutes() {
+        EffectiveRouteHeadersCheck check =
+            new EffectiveRouteHeadersCheck(req -> new StubHttpResponse(200, Map.of()));
+
+        assertThat(check.check(new MockProdGuardContext().withLocalServerPort(8080))).isEmpty();
+    }
+
+    @Test
+    void reportsUnreachableTargetOncePerSession() {
+        ProbeSession session = new ProbeSession(req -> {
+            throw new ConnectException("Connection refused");
+        });
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8080)
+                .withRoute("/a", "GET")
+                .withRoute("/b", "GET");
+
+        Optional<CheckResult> first = new EffectiveRouteHeadersCheck(session).check(ctx);
+        Optional<CheckResult> second = new EffectiveRouteHeadersCheck(session).check(ctx);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().message()).contains("cannot connect to http://localhost:8080");
+        assertThat(second.orElseThrow().outcome()).isEqualTo(CheckOutcome.SKIPPED);
+    }
+}
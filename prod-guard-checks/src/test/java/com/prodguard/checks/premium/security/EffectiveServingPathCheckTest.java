@@ -0,0 +1,98 @@
+package com.prodguard.checks.premium.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ConnectException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.prodguard.checks.support.MockProdGuardContext;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.ProdGuardContext;
+
+class EffectiveServingPathCheckTest {
+
+    private static final Map<String, List<String>> POD_HEADERS = Map.of(
+        "X-Content-Type-Options", List.of("nosniff"),
+        "X-Frame-Options", List.of("DENY")
+    );
+
+    private static final Map<String, List<String>> INGRESS_HEADERS = Map.of(
+        "X-Content-Type-Options", List.of("nosniff"),
+        "X-Frame-Options", List.of("DENY"),
+        "Strict-Transport-Security", List.of("max-age=31536000")
+    );
+
+    @Test
+    void passesWhenOnlyTheLocalServerIsConfigured() {
+        AtomicInteger calls = new AtomicInteger();
+        EffectiveServingPathCheck check = new EffectiveServingPathCheck(req -> {
+            calls.incrementAndGet();
+            return new StubHttpResponse(200, POD_HEADERS);
+        });
+
+        ProdGuardContext ctx = new MockProdGuardContext().withLocalServerPort(8080);
+
+        assertThat(check.check(ctx)).isEmpty();
+        assertThat(check.probeRequests(ctx)).isEmpty();
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void reportsHeadersPresentAtIngressButMissingOnPod() {
+        EffectiveServingPathCheck check = new EffectiveServingPathCheck(
+            req -> req.uri().getHost().equals("shop.example.com")
+                ? new StubHttpResponse(200, INGRESS_HEADERS)
+                : new StubHttpResponse(200, POD_HEADERS),
+            new ProbeTarget.Settings("https://shop.example.com", List.of("http://10.0.0.5:8080"), true)
+        );
+
+        ProdGuardContext ctx = new MockProdGuardContext().withLocalServerPort(8080);
+
+        Optional<CheckResult> result = check.check(ctx);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().message())
+            .contains("Strict-Transport-Security present at public, missing at local, peer-1");
+        assertThat(result.get().message()).doesNotContain("X-Content-Type-Options");
+    }
+
+    @Test
+    void passesWhenEveryTargetServesTheSameHeaders() {
+        EffectiveServingPathCheck check = new EffectiveServingPathCheck(
+            req -> new StubHttpResponse(200, INGRESS_HEADERS),
+            new ProbeTarget.Settings("https://shop.example.com", List.of(), true)
+        );
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8080)
+                .withProperty("local.management.port", "9090");
+
+        assertThat(check.check(ctx)).isEmpty();
+        assertThat(check.probeRequests(ctx)).hasSize(3);
+    }
+
+    @Test
+    void reportsUnreachablePeers() {
+        ProbeSession session = new ProbeSession(req -> {
+            if (req.uri().getHost().equals("10.0.0.6")) {
+                throw new ConnectException("Connection refused");
+            }
+            return new StubHttpResponse(200, POD_HEADERS);
+        });
+
+        ProdGuardContext ctx = new MockProdGuardContext().withLocalServerPort(8080);
+        ProbeTarget.Settings settings =
+            new ProbeTarget.Settings(null, List.of("http://10.0.0.5:8080", "http://10.0.0.6:8080"), true);
+
+        Optional<CheckResult> result = new EffectiveServingPathCheck(session, settings).check(ctx);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().message()).contains("Unreachable probe targets: peer-2 (http://10.0.0.6:8080/)");
+    }
+}
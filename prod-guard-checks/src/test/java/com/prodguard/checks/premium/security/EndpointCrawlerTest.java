@@ -0,0 +1,145 @@
+package com.prodguard.checks.premium.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.prodguard.core.HttpRoute;
+
+class EndpointCrawlerTest {
+
+    @Test
+    void probesOnlyConcreteGetRoutes() {
+        List<String> paths = EndpointCrawler.probeablePaths(List.of(
+            new HttpRoute("/orders", Set.of("GET")),
+            new HttpRoute("/orders", Set.of("HEAD")),
+            new HttpRoute("/orders/{id}", Set.of("GET")),
+            new HttpRoute("/static/**", Set.of()),
+            new HttpRoute("/orders", Set.of("POST")),
+            new HttpRoute("/admin/delete", Set.of("DELETE")),
+            new HttpRoute("health", Set.of())
+        ));
+
+        assertThat(paths).containsExactly("/orders", "/health");
+    }
+
+    @Test
+    void capsTotalRequestsAndReportsTheRest() throws Exception {
+        ConcurrentLinkedQueue<String> sent = new ConcurrentLinkedQueue<>();
+        EndpointCrawler crawler = new EndpointCrawler(req -> {
+            sent.add(req.uri().getPath());
+            return new StubHttpResponse(200, Map.of());
+        }, 2, 4, Duration.ofSeconds(5));
+
+        EndpointCrawler.Crawl crawl = crawler.crawl("http://localhost:8080", List.of(
+            new HttpRoute("/a", Set.of()),
+            new HttpRoute("/b", Set.of()),
+            new HttpRoute("/c", Set.of()),
+            new HttpRoute("/d", Set.of())
+        ));
+
+        assertThat(List.copyOf(sent)).containsExactly("/a", "/b");
+        assertThat(crawl.responses()).containsKey("/a").containsKey("/b");
+        assertThat(crawl.notProbed()).containsExactly("/c", "/d");
+        assertThat(crawl.candidates()).isEqualTo(4);
+    }
+
+    @Test
+    void boundsRequestsInFlight() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        HttpProbe slowProbe = new HttpProbe() {
+            @Override
+            public HttpResponse<Void> send(HttpRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse<Void>> sendAsync(HttpRequest request) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                    return new StubHttpResponse(200, Map.of());
+                });
+            }
+        };
+
+        EndpointCrawler.Crawl crawl = new EndpointCrawler(slowProbe, 20, 3, Duration.ofSeconds(10))
+            .crawl("http://localhost:8080", routes(12));
+
+        assertThat(crawl.responses()).hasSize(12);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void stopsStartingProbesAfterTimeout() throws Exception {
+        HttpProbe neverAnswers = new HttpProbe() {
+            @Override
+            public HttpResponse<Void> send(HttpRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse<Void>> sendAsync(HttpRequest request) {
+                return new CompletableFuture<>();
+            }
+        };
+
+        EndpointCrawler.Crawl crawl = new EndpointCrawler(neverAnswers, 10, 2, Duration.ofMillis(50))
+            .crawl("http://localhost:8080", routes(5));
+
+        assertThat(crawl.responses()).isEmpty();
+        assertThat(crawl.notProbed()).hasSize(5);
+    }
+
+    @Test
+    void recordsFailedProbesPerRoute() throws Exception {
+        EndpointCrawler crawler = new EndpointCrawler(req -> {
+            if (req.uri().getPath().equals("/broken")) {
+                throw new IllegalStateException("boom");
+            }
+            return new StubHttpResponse(200, Map.of());
+        }, 10, 2, Duration.ofSeconds(5));
+
+        EndpointCrawler.Crawl crawl = crawler.crawl("http://localhost:8080", List.of(
+            new HttpRoute("/ok", Set.of("GET")),
+            new HttpRoute("/broken", Set.of("GET"))
+        ));
+
+        assertThat(crawl.responses()).containsKey("/ok");
+        assertThat(crawl.failures()).containsKey("/broken");
+    }
+
+    @Test
+    void rejectsLimitsTheCrawlCannotHonour() {
+        assertThatThrownBy(() -> new EndpointCrawler.Limits(-1, 8, Duration.ofSeconds(10)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EndpointCrawler.Limits(100, 0, Duration.ofSeconds(10)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EndpointCrawler.Limits(100, 8, Duration.ofSeconds(-1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<HttpRoute> routes(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new HttpRoute("/r" + i, Set.of("GET")))
+            .toList();
+    }
+}
@@ -0,0 +1,310 @@
+package com.prodguard.checks.premium.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.ConnectException;
+import java.security.cert.CertificateException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLHandshakeException;
+import javax.net.ssl.SSLPeerUnverifiedException;
+
+import org.junit.jupiter.api.Test;
+
+import com.prodguard.checks.support.MockProdGuardContext;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.ProdGuardContext;
+
+class ProbeSessionTest {
+
+    @Test
+    void sendsEachDistinctRequestOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeSession session = new ProbeSession(req -> {
+            calls.incrementAndGet();
+            return new StubHttpResponse(200, Map.of());
+        });
+
+        session.send(ProbeRequests.httpsRoot(8443));
+        session.send(ProbeRequests.httpsRoot(8443));
+        session.send(ProbeRequests.httpRoot(8443));
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void sharesOneResponseAcrossChecks() {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeSession session = new ProbeSession(req -> {
+            calls.incrementAndGet();
+            return new StubHttpResponse(
+                200,
+                Map.of("Strict-Transport-Security", List.of("max-age=31536000"))
+            );
+        });
+
+        MockProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8443);
+
+        assertThat(new EffectiveHstsCheck(session).check(ctx)).isEmpty();
+        new EffectiveCspCheck(session).check(ctx);
+        new EffectiveReferrerPolicyCheck(session).check(ctx);
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void sharesParsedHeadersOfMemoizedResponse() throws Exception {
+        ProbeSession session = new ProbeSession(req -> new StubHttpResponse(
+            200,
+            Map.of("Content-Security-Policy", List.of("default-src 'self'"))
+        ));
+
+        ResponseHeaders first = ResponseHeaders.of(session.send(ProbeRequests.httpsRoot(8443)));
+        ResponseHeaders second = ResponseHeaders.of(session.send(ProbeRequests.httpsRoot(8443)));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.contentSecurityPolicy().orElseThrow())
+            .isSameAs(first.contentSecurityPolicy().orElseThrow());
+    }
+
+    @Test
+    void memoizesFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeSession session = new ProbeSession(req -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> session.send(ProbeRequests.httpsRoot(8443)))
+            .hasMessage("boom");
+        assertThatThrownBy(() -> session.send(ProbeRequests.httpsRoot(8443)))
+            .hasMessage("boom");
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void resetForgetsResponses() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeSession session = new ProbeSession(req -> {
+            calls.incrementAndGet();
+            return new StubHttpResponse(200, Map.of());
+        });
+
+        session.send(ProbeRequests.httpsRoot(8443));
+        session.reset();
+        session.send(ProbeRequests.httpsRoot(8443));
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void resetCancelsRequestsInFlight() {
+        CompletableFuture<HttpResponse<Void>> wire = new CompletableFuture<>();
+        ProbeSession session = new ProbeSession(new HttpProbe() {
+            @Override
+            public HttpResponse<Void> send(HttpRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse<Void>> sendAsync(HttpRequest request) {
+                return wire;
+            }
+        });
+
+        session.prefetch(List.of(ProbeRequests.httpsRoot(8443)));
+        session.reset();
+
+        assertThat(wire.isCancelled()).isTrue();
+    }
+
+    @Test
+    void prefetchFiresDeclaredRequestsBeforeChecksRun() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<HttpResponse<Void>> inFlight = new CompletableFuture<>();
+        ProbeSession session = new ProbeSession(new HttpProbe() {
+            @Override
+            public HttpResponse<Void> send(HttpRequest request) {
+                throw new AssertionError("blocking send must not be used");
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse<Void>> sendAsync(HttpRequest request) {
+                calls.incrementAndGet();
+                return inFlight;
+            }
+        });
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8443);
+
+        List<ProbingCheck> checks = List.of(
+            new EffectiveHstsCheck(session),
+            new EffectiveHttpsCheck(session),
+            new EffectiveReferrerPolicyCheck(session)
+        );
+
+        session.prefetch(
+            checks.stream()
+                .flatMap(c -> c.probeRequests(ctx).stream())
+                .toList()
+        );
+
+        // https / and http / — each fired once, before any check ran
+        assertThat(calls).hasValue(2);
+
+        inFlight.complete(new StubHttpResponse(200, Map.of()));
+
+        assertThat(checks.get(0).check(ctx)).isPresent();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void probingChecksDeclareNoRequestsWithoutPort() {
+        assertThat(new EffectiveHstsCheck(new ProbeSession(req -> null))
+            .probeRequests(new MockProdGuardContext()))
+            .isEmpty();
+    }
+
+    @Test
+    void reportsUnreachableTargetOnceAndShortCircuitsTheRest() {
+        AtomicInteger httpsCalls = new AtomicInteger();
+        ProbeSession session = new ProbeSession(req -> {
+            if ("https".equals(req.uri().getScheme())) {
+                httpsCalls.incrementAndGet();
+                throw new ConnectException("Connection refused");
+            }
+            return new StubHttpResponse(403, Map.of());
+        });
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8443);
+
+        List<Optional<CheckResult>> results = List.of(
+            new EffectiveHstsCheck(session).check(ctx),
+            new EffectiveCspCheck(session).check(ctx),
+            new EffectiveCookieFlagsCheck(session).check(ctx),
+            new EffectiveXFrameOptionsCheck(session).check(ctx)
+        );
+
+        List<CheckResult> reported = results.stream()
+            .flatMap(Optional::stream)
+            .filter(r -> r.outcome() == CheckOutcome.UNREACHABLE)
+            .toList();
+
+        assertThat(reported).hasSize(1);
+        assertThat(reported.get(0).message())
+            .contains("cannot connect to https://localhost:8443");
+        // The rest are not passing: they could not inspect anything
+        assertThat(results.stream().flatMap(Optional::stream).map(CheckResult::outcome).toList())
+            .containsExactly(CheckOutcome.UNREACHABLE, CheckOutcome.SKIPPED, CheckOutcome.SKIPPED, CheckOutcome.SKIPPED);
+        assertThat(httpsCalls).hasValue(1);
+
+        // Other schemes keep their own circuit
+        assertThat(new EffectiveHttpsCheck(session).check(ctx)).isEmpty();
+    }
+
+    @Test
+    void unreachableTargetIsReportedByTheHighestSeveritySubscriber() {
+        ProbeSession session = new ProbeSession(req -> {
+            throw new ConnectException("Connection refused");
+        });
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8443);
+
+        ProbingCheck referrer = new EffectiveReferrerPolicyCheck(session);
+        ProbingCheck xFrame = new EffectiveXFrameOptionsCheck(session);
+        ProbingCheck csp = new EffectiveCspCheck(session);
+        for (ProbingCheck check : List.of(referrer, xFrame, csp)) {
+            session.prefetch(check.descriptor(), check.probeRequests(ctx));
+        }
+
+        // The WARN check runs first, but the lowest ERROR code owns the report
+        assertThat(referrer.check(ctx).orElseThrow().outcome()).isEqualTo(CheckOutcome.SKIPPED);
+        assertThat(xFrame.check(ctx).orElseThrow().outcome()).isEqualTo(CheckOutcome.SKIPPED);
+        CheckResult owned = csp.check(ctx).orElseThrow();
+        assertThat(owned.outcome()).isEqualTo(CheckOutcome.UNREACHABLE);
+        assertThat(owned.code()).isEqualTo("PG-204");
+    }
+
+    @Test
+    void laterSubscriberDoesNotTakeOverAReportAlreadyMade() {
+        ProbeSession session = new ProbeSession(req -> {
+            throw new ConnectException("Connection refused");
+        });
+
+        ProdGuardContext ctx =
+            new MockProdGuardContext()
+                .withLocalServerPort(8443);
+
+        ProbingCheck referrer = new EffectiveReferrerPolicyCheck(session);
+        session.prefetch(referrer.descriptor(), referrer.probeRequests(ctx));
+        assertThat(referrer.check(ctx).orElseThrow().outcome()).isEqualTo(CheckOutcome.UNREACHABLE);
+
+        // Declared in a later stage: outranks the owner but the report was already made
+        ProbingCheck csp = new EffectiveCspCheck(session);
+        session.prefetch(csp.descriptor(), csp.probeRequests(ctx));
+        assertThat(csp.check(ctx).orElseThrow().outcome()).isEqualTo(CheckOutcome.SKIPPED);
+    }
+
+    @Test
+    void certificateFailuresDoNotOpenTheCircuit() {
+        SSLHandshakeException untrusted = new SSLHandshakeException("PKIX path building failed");
+        untrusted.initCause(new CertificateException("unable to find valid certification path"));
+
+        assertThat(ProbeCircuitBreaker.isConnectFailure(untrusted)).isFalse();
+        assertThat(ProbeCircuitBreaker.isConnectFailure(new SSLPeerUnverifiedException("hostname mismatch")))
+            .isFalse();
+        assertThat(ProbeCircuitBreaker.isConnectFailure(new SSLException("Unsupported or unrecognized SSL message")))
+            .isTrue();
+        assertThat(ProbeCircuitBreaker.isConnectFailure(new ConnectException("Connection refused"))).isTrue();
+    }
+
+    @Test
+    void openCircuitSkipsNewRequestsToSameTarget() {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeSession session = new ProbeSession(req -> {
+            calls.incrementAndGet();
+            throw new ConnectException("Connection refused");
+        });
+
+        assertThatThrownBy(() -> session.send(ProbeRequests.get("https://localhost:8443/")))
+            .isInstanceOf(ProbeUnreachableException.class);
+        assertThatThrownBy(() -> session.send(ProbeRequests.get("https://localhost:8443/other")))
+            .isInstanceOf(ProbeCircuitOpenException.class);
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void nonConnectFailuresDoNotOpenTheCircuit() {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeSession session = new ProbeSession(req -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> session.send(ProbeRequests.get("https://localhost:8443/")))
+            .hasMessage("boom");
+        assertThatThrownBy(() -> session.send(ProbeRequests.get("https://localhost:8443/other")))
+            .hasMessage("boom");
+
+        assertThat(calls).hasValue(2);
+    }
+}
@@ -0,0 +1,79 @@
+package com.prodguard.checks.premium.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.prodguard.checks.support.MockProdGuardContext;
+
+class ProbeTargetTest {
+
+    @Test
+    void localTargetOnlyByDefault() {
+        List<ProbeTarget> targets = ProbeTarget.all(
+            new MockProdGuardContext().withLocalServerPort(8080),
+            ProbeTarget.Settings.DEFAULTS
+        );
+
+        assertThat(targets).containsExactly(new ProbeTarget("local", "http://localhost:8080", "/"));
+    }
+
+    @Test
+    void addsConfiguredTargetsAfterLocal() {
+        List<ProbeTarget> targets = ProbeTarget.all(
+            new MockProdGuardContext()
+                .withLocalServerPort(8443)
+                .withProperty("server.ssl.enabled", "true")
+                .withProperty("server.servlet.context-path", "/app/")
+                .withProperty("local.management.port", "9090"),
+            new ProbeTarget.Settings(
+                "https://shop.example.com/app/",
+                List.of("http://10.0.0.5:8080/app", "http://10.0.0.6:8080/app"),
+                true
+            )
+        );
+
+        assertThat(targets.stream().map(ProbeTarget::url).toList()).containsExactly(
+            "https://localhost:8443/app/",
+            "https://shop.example.com/app/",
+            "http://10.0.0.5:8080/app/",
+            "http://10.0.0.6:8080/app/",
+            "http://localhost:9090/actuator/health"
+        );
+        assertThat(targets.stream().map(ProbeTarget::name).toList())
+            .containsExactly("local", "public", "peer-1", "peer-2", "management");
+    }
+
+    @Test
+    void ignoresBlankPeers() {
+        List<ProbeTarget> targets = ProbeTarget.all(
+            new MockProdGuardContext().withLocalServerPort(8080),
+            new ProbeTarget.Settings(null, List.of(" http://10.0.0.5:8080 ", "", "http://10.0.0.6:8080"), true)
+        );
+
+        assertThat(targets.stream().map(ProbeTarget::url).toList()).containsExactly(
+            "http://localhost:8080/",
+            "http://10.0.0.5:8080/",
+            "http://10.0.0.6:8080/"
+        );
+    }
+
+    @Test
+    void managementTargetCanBeDisabled() {
+        List<ProbeTarget> targets = ProbeTarget.all(
+            new MockProdGuardContext()
+                .withLocalServerPort(8080)
+                .withProperty("local.management.port", "9090"),
+            new ProbeTarget.Settings(null, List.of(), false)
+        );
+
+        assertThat(targets).hasSize(1);
+    }
+
+    @Test
+    void noTargetsWithoutLocalPort() {
+        assertThat(ProbeTarget.all(new MockProdGuardContext(), ProbeTarget.Settings.DEFAULTS)).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package com.prodguard.checks.premium.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ResponseHeadersTest {
+
+    private static ResponseHeaders headers(Map<String, List<String>> headers) {
+        return ResponseHeaders.of(new StubHttpResponse(200, headers));
+    }
+
+    @Test
+    void matchesHeaderNamesIgnoringCase() {
+        ResponseHeaders headers = headers(Map.of("X-Frame-Options", List.of("DENY")));
+
+        assertThat(headers.contains("x-frame-options")).isTrue();
+        assertThat(headers.first("X-FRAME-OPTIONS")).contains("DENY");
+        assertThat(headers.contains("referrer-policy")).isFalse();
+    }
+
+    @Test
+    void parsesCspDirectives() {
+        HeaderDirectives csp = headers(Map.of(
+            "Content-Security-Policy",
+            List.of("Default-Src 'self' https://cdn.example.com;  script-src 'self' 'nonce-AbC=' ; ;frame-ancestors 'none'")
+        )).contentSecurityPolicy().orElseThrow();
+
+        assertThat(csp.get("default-src")).contains("'self' https://cdn.example.com");
+        assertThat(csp.get("script-src")).contains("'self' 'nonce-AbC='");
+        assertThat(csp.has("frame-ancestors")).isTrue();
+        assertThat(csp.asMap()).hasSize(3);
+    }
+
+    @Test
+    void keepsFirstOccurrenceOfRepeatedDirective() {
+        HeaderDirectives csp = headers(Map.of(
+            "Content-Security-Policy", List.of("default-src 'self'; default-src *")
+        )).contentSecurityPolicy().orElseThrow();
+
+        assertThat(csp.get("default-src")).contains("'self'");
+    }
+
+    @Test
+    void parsesHstsFlagsAndQuotedValues() {
+        HeaderDirectives hsts = headers(Map.of(
+            "Strict-Transport-Security", List.of("max-age=\"31536000\"; includeSubDomains")
+        )).strictTransportSecurity().orElseThrow();
+
+        assertThat(hsts.get("max-age")).contains("31536000");
+        assertThat(hsts.get("includesubdomains")).contains("");
+    }
+
+    @Test
+    void parsesPermissionsPolicyAllowlists() {
+        HeaderDirectives policy = headers(Map.of(
+            "Permissions-Policy", List.of("camera=(), geolocation=(self \"https://maps.example.com\"), usb=*")
+        )).permissionsPolicy().orElseThrow();
+
+        assertThat(policy.get("camera")).contains("()");
+        assertThat(policy.get("geolocation")).contains("(self \"https://maps.example.com\")");
+        assertThat(policy.get("usb")).contains("*");
+    }
+
+    @Test
+    void referrerPolicyIsLastTokenOfList() {
+        assertThat(headers(Map.of("Referrer-Policy", List.of("unsafe-url, Strict-Origin ,")))
+            .referrerPolicy())
+            .contains("strict-origin");
+    }
+
+    @Test
+    void parsesEverySetCookieHeader() {
+        List<SetCookie> cookies = headers(Map.of(
+            "Set-Cookie", List.of(
+                "SESSION=secure-token; Path=/; HttpOnly; SameSite=Lax",
+                "theme=dark")
+        )).cookies();
+
+        assertThat(cookies).hasSize(2);
+        assertThat(cookies.get(0).name()).isEqualTo("SESSION");
+        assertThat(cookies.get(0).has("secure")).isFalse();
+        assertThat(cookies.get(0).has("httponly")).isTrue();
+        assertThat(cookies.get(0).attribute("samesite")).contains("Lax");
+        assertThat(cookies.get(1).attributes().asMap()).isEmpty();
+    }
+
+    @Test
+    void absentStructuredHeadersAreEmpty() {
+        ResponseHeaders headers = headers(Map.of());
+
+        assertThat(headers.contentSecurityPolicy()).isEmpty();
+        assertThat(headers.strictTransportSecurity()).isEmpty();
+        assertThat(headers.permissionsPolicy()).isEmpty();
+        assertThat(headers.referrerPolicy()).isEmpty();
+        assertThat(headers.cookies()).isEmpty();
+    }
+}
@@ -0,0 +1,16 @@
+package com.prodguard.core;
+
+/**
+ * Rough cost class of a check, from cheapest to most expensive. The runner uses it to
+ * run cheap checks first.
+ */
+public enum CheckCost {
+    /** Reads configuration properties only. */
+    PROPERTY,
+    /** Inspects bean definitions or beans of the application context. */
+    BEAN,
+    /** Measures the running JVM or application. */
+    RUNTIME,
+    /** Talks to the running server over the network. */
+    NETWORK
+}
@@ -0,0 +1,47 @@
+package com.prodguard.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Resolves the static {@code DESCRIPTOR} field of check classes, caching it per class.
+ */
+final class CheckDescriptors {
+
+    private static final ClassValue<CheckDescriptor> CACHE = new ClassValue<>() {
+        @Override
+        protected CheckDescriptor computeValue(Class<?> type) {
+            return lookup(type);
+        }
+    };
+
+    private CheckDescriptors() {
+    }
+
+    static CheckDescriptor of(Class<?> checkClass) {
+        return CACHE.get(checkClass);
+    }
+
+    private static CheckDescriptor lookup(Class<?> checkClass) {
+        // Walk up the hierarchy so proxies and subclasses resolve to the declaring check
+        for (Class<?> c = checkClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField("DESCRIPTOR");
+                if (Modifier.isStatic(field.getModifiers())
+                        && CheckDescriptor.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    return (CheckDescriptor) field.get(null);
+                }
+            } catch (NoSuchFieldException ignored) {
+                // keep looking in the superclass
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(
+                    "Failed to read DESCRIPTOR from " + c.getName(), e
+                );
+            }
+        }
+        throw new IllegalStateException(
+            checkClass.getName() + " does not declare a static CheckDescriptor DESCRIPTOR"
+        );
+    }
+}
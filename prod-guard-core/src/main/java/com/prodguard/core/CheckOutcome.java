@@ -0,0 +1,15 @@
+package com.prodguard.core;
+
+/**
+ * How a {@link CheckResult} came to be.
+ */
+public enum CheckOutcome {
+    /** The check ran and reported an issue. */
+    FAILED,
+    /** The check did not complete within its deadline or the run budget and was cancelled. */
+    TIMED_OUT,
+    /** A probe could not connect to its target, so the check could not observe anything. */
+    UNREACHABLE,
+    /** The check was not run because a prerequisite was blocking, unreachable or skipped. */
+    SKIPPED
+}
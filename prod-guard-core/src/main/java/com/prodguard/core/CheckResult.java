@@ -1,10 +1,21 @@
 package com.prodguard.core;
 
+import java.time.Duration;
+
 public record CheckResult(
         CheckDescriptor descriptor,
         String message,
-        String remediation
+        String remediation,
+        CheckOutcome outcome
 ) {
+    public CheckResult(
+            CheckDescriptor descriptor,
+            String message,
+            String remediation
+    ) {
+        this(descriptor, message, remediation, CheckOutcome.FAILED);
+    }
+
     public String code() {
         return descriptor.code();
     }
@@ -28,4 +39,29 @@ public record CheckResult(
         ) {
             return new CheckResult(descriptor, message, remediation);
         }    
+
+    public static CheckResult timedOut(
+            CheckDescriptor descriptor,
+            Duration limit
+        ) {
+            return new CheckResult(
+                descriptor,
+                "Check did not complete within " + limit.toMillis() + " ms and was cancelled",
+                "Investigate the slow dependency or raise prodguard.check-timeouts." + descriptor.code()
+                    + " / prodguard.budget",
+                CheckOutcome.TIMED_OUT
+            );
+        }
+
+    public static CheckResult skipped(
+            CheckDescriptor descriptor,
+            String reason
+        ) {
+            return new CheckResult(
+                descriptor,
+                "Check was skipped: " + reason,
+                "Resolve the issue reported for the prerequisite; this check runs again once it passes",
+                CheckOutcome.SKIPPED
+            );
+        }
 }
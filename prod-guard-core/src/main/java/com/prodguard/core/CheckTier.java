@@ -1,6 +1,6 @@
-package com.prodguard.core;
-
-public enum CheckTier {
-    CORE,
-    PREMIUM
-}
+package com.prodguard.core;
+
+public enum CheckTier {
+    CORE,
+    PREMIUM
+}
@@ -1,8 +1,8 @@
-package com.prodguard.core;
-
-public enum EffectiveSeverity {
-    INFO,
-    WARN,
-    ERROR,
-    DISABLED
-}
+package com.prodguard.core;
+
+public enum EffectiveSeverity {
+    INFO,
+    WARN,
+    ERROR,
+    DISABLED
+}
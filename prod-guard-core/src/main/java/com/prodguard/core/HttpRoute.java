@@ -0,0 +1,25 @@
+package com.prodguard.core;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A request mapping exposed by the running application: a path pattern as declared
+ * (e.g. {@code /orders/{id}}) and the HTTP methods it accepts. An empty method set means
+ * the mapping accepts any method.
+ */
+public record HttpRoute(String pattern, Set<String> methods) {
+
+    public HttpRoute {
+        methods = methods == null
+                ? Set.of()
+                : methods.stream()
+                        .map(m -> m.toUpperCase(Locale.ROOT))
+                        .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean accepts(String method) {
+        return methods.isEmpty() || methods.contains(method.toUpperCase(Locale.ROOT));
+    }
+}
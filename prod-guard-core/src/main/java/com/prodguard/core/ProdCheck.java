@@ -1,11 +1,35 @@
-
 package com.prodguard.core;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * A single production check. Implementations should be lightweight and side-effect free.
  */
 public interface ProdCheck {
     Optional<CheckResult> check(ProdGuardContext ctx);
+
+    /**
+     * Static descriptor of this check. By default it is read from the
+     * {@code public static final CheckDescriptor DESCRIPTOR} field every check declares.
+     */
+    default CheckDescriptor descriptor() {
+        return CheckDescriptors.of(getClass());
+    }
+
+    /**
+     * Cost class of this check. Checks that do more than read properties should say so.
+     */
+    default CheckCost cost() {
+        return CheckCost.PROPERTY;
+    }
+
+    /**
+     * Codes of checks that must pass before this one is worth running. When any of them
+     * reports an issue this check is skipped. Prerequisites that are disabled or not
+     * registered are ignored.
+     */
+    default Set<String> prerequisites() {
+        return Set.of();
+    }
 }
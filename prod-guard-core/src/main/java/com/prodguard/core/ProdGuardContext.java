@@ -1,6 +1,8 @@
 
 package com.prodguard.core;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -15,6 +17,51 @@ public interface ProdGuardContext {
      */
     Optional<String> getProperty(String key);
 
+    /**
+     * Return a property converted to a boolean ({@code true/false}, {@code on/off},
+     * {@code yes/no}, {@code 1/0}). Values that cannot be converted are reported as absent.
+     * <p>
+     * The typed accessors default to converting {@link #getProperty(String)}; implementations
+     * may override them to memoize conversions per key.
+     */
+    default Optional<Boolean> getBoolean(String key) {
+        return getProperty(key).flatMap(PropertyValues::toBoolean);
+    }
+
+    /**
+     * Return a property converted to an int, or empty if absent or not a number.
+     */
+    default Optional<Integer> getInt(String key) {
+        return getProperty(key).flatMap(PropertyValues::toInt);
+    }
+
+    /**
+     * Return a property converted to a duration. Accepts ISO-8601 ({@code PT30S}) and
+     * simple ({@code 30s}, {@code 500ms}) formats; a bare number is read as milliseconds.
+     */
+    default Optional<Duration> getDuration(String key) {
+        return getProperty(key).flatMap(PropertyValues::toDuration);
+    }
+
+    /**
+     * Return a data size property in bytes ({@code 10MB}, {@code 512KB}); a bare number is
+     * read as bytes.
+     */
+    default Optional<Long> getDataSize(String key) {
+        return getProperty(key).flatMap(PropertyValues::toBytes);
+    }
+
+    /**
+     * Return a list property as trimmed, non-empty values: a comma-separated value, or
+     * indexed entries ({@code key[0]}, {@code key[1]}, ...) as YAML lists are flattened to.
+     * Empty if the property is absent.
+     */
+    default List<String> getList(String key) {
+        return getProperty(key)
+                .map(PropertyValues::toList)
+                .orElseGet(() -> PropertyValues.toList(PropertyValues.indexed(key, this::getProperty)));
+    }
+
     /**
      * Return a bean/instance of the provided type if available.
      */
@@ -29,4 +76,12 @@ public interface ProdGuardContext {
     boolean hasBean(String className);
     
     Optional<Integer> getLocalServerPort();
+
+    /**
+     * Request mappings of the running web application, in a stable order. Empty when the
+     * application is not a web application or its routes cannot be enumerated.
+     */
+    default List<HttpRoute> getRoutes() {
+        return List.of();
+    }
 }
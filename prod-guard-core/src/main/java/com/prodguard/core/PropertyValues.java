@@ -0,0 +1,125 @@
+package com.prodguard.core;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Framework-agnostic conversion of raw property values, following the same formats
+ * Spring Boot accepts when binding configuration properties. Values that cannot be
+ * converted yield an empty result.
+ */
+final class PropertyValues {
+
+    private static final Pattern SIMPLE = Pattern.compile("^([+-]?\\d+)([a-zA-Z]{0,2})$");
+    private static final Pattern ISO_8601 = Pattern.compile("^[+-]?[pP].*$");
+
+    private PropertyValues() {
+    }
+
+    static Optional<Boolean> toBoolean(String value) {
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "on", "yes", "1" -> Optional.of(Boolean.TRUE);
+            case "false", "off", "no", "0" -> Optional.of(Boolean.FALSE);
+            default -> Optional.empty();
+        };
+    }
+
+    static Optional<Integer> toInt(String value) {
+        try {
+            return Optional.of(Integer.valueOf(value.trim()));
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+
+    static Optional<Duration> toDuration(String value) {
+        String v = value.trim();
+        if (ISO_8601.matcher(v).matches()) {
+            try {
+                return Optional.of(Duration.parse(v));
+            } catch (DateTimeParseException ex) {
+                return Optional.empty();
+            }
+        }
+        Matcher m = SIMPLE.matcher(v);
+        if (!m.matches()) {
+            return Optional.empty();
+        }
+        ChronoUnit unit = switch (m.group(2).toLowerCase(Locale.ROOT)) {
+            case "ns" -> ChronoUnit.NANOS;
+            case "us" -> ChronoUnit.MICROS;
+            case "", "ms" -> ChronoUnit.MILLIS;
+            case "s" -> ChronoUnit.SECONDS;
+            case "m" -> ChronoUnit.MINUTES;
+            case "h" -> ChronoUnit.HOURS;
+            case "d" -> ChronoUnit.DAYS;
+            default -> null;
+        };
+        if (unit == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.of(Long.parseLong(m.group(1)), unit));
+        } catch (NumberFormatException | ArithmeticException ex) {
+            return Optional.empty();
+        }
+    }
+
+    static Optional<Long> toBytes(String value) {
+        Matcher m = SIMPLE.matcher(value.trim());
+        if (!m.matches()) {
+            return Optional.empty();
+        }
+        long multiplier = switch (m.group(2).toUpperCase(Locale.ROOT)) {
+            case "", "B" -> 1L;
+            case "KB" -> 1L << 10;
+            case "MB" -> 1L << 20;
+            case "GB" -> 1L << 30;
+            case "TB" -> 1L << 40;
+            default -> 0L;
+        };
+        if (multiplier == 0L) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Math.multiplyExact(Long.parseLong(m.group(1)), multiplier));
+        } catch (NumberFormatException | ArithmeticException ex) {
+            return Optional.empty();
+        }
+    }
+
+    static List<String> toList(String value) {
+        return toList(Arrays.asList(value.split(",")));
+    }
+
+    static List<String> toList(List<String> values) {
+        return values.stream()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Values of the indexed entries {@code key[0]}, {@code key[1]}, ... up to the first
+     * missing index.
+     */
+    static List<String> indexed(String key, Function<String, Optional<String>> lookup) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            Optional<String> value = lookup.apply(key + "[" + i + "]");
+            if (value.isEmpty()) {
+                return values;
+            }
+            values.add(value.get());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.prodguard.spring;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * SHA-256 over everything a configuration-only check can observe: resolved properties,
+ * active profiles and the set of bean types, plus a caller-supplied description of the
+ * check catalog. Two processes with the same fingerprint see the same configuration.
+ * <p>
+ * Only digests leave this class, so property values (including secrets) are never stored.
+ */
+public final class ConfigurationFingerprint {
+
+    private ConfigurationFingerprint() {
+    }
+
+    /**
+     * @param ignoredKeys properties that differ between otherwise identical instances
+     *                    (e.g. {@code HOSTNAME}, {@code PID}) and must not affect the result
+     * @param catalog     entries identifying the checks and their versions
+     */
+    public static byte[] of(SpringProdGuardContext ctx, Set<String> ignoredKeys, Collection<String> catalog) {
+        MessageDigest digest = sha256();
+
+        TreeMap<String, String> properties = new TreeMap<>();
+        ctx.snapshot().forEach((key, value) -> {
+            if (!ignoredKeys.contains(key)) {
+                properties.put(key, value);
+            }
+        });
+        section(digest, "properties");
+        properties.forEach((key, value) -> {
+            update(digest, key);
+            update(digest, value);
+        });
+
+        section(digest, "profiles");
+        for (String profile : ctx.getActiveProfiles()) {
+            update(digest, profile);
+        }
+
+        section(digest, "beans");
+        ctx.beanTypes().forEach(type -> update(digest, type));
+
+        section(digest, "catalog");
+        catalog.forEach(entry -> update(digest, entry));
+
+        return digest.digest();
+    }
+
+    private static void section(MessageDigest digest, String name) {
+        digest.update((byte) 0);
+        update(digest, name);
+    }
+
+    // Length-prefixed so adjacent values cannot be confused with one another
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.prodguard.spring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Immutable, flattened view of every enumerable property source of an {@link Environment}.
+ * <p>
+ * Each key is resolved once through the environment (so precedence and placeholders
+ * behave exactly as {@link Environment#getProperty(String)}) and stored in a compact
+ * open-addressing table: two parallel arrays probed linearly, no per-entry objects.
+ */
+final class PropertySnapshot {
+
+    private final String[] keys;
+    private final String[] values;
+    private final int mask;
+    private final int size;
+
+    private PropertySnapshot(Map<String, String> entries) {
+        int capacity = Integer.highestOneBit(Math.max(4, entries.size() * 2) - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = new String[capacity];
+        this.mask = capacity - 1;
+        this.size = entries.size();
+        entries.forEach(this::put);
+    }
+
+    static PropertySnapshot of(Environment environment) {
+        Map<String, String> entries = new LinkedHashMap<>();
+
+        if (environment instanceof ConfigurableEnvironment configurable) {
+            for (PropertySource<?> source : configurable.getPropertySources()) {
+                if (!(source instanceof EnumerablePropertySource<?> enumerable)) {
+                    continue;
+                }
+                for (String name : enumerable.getPropertyNames()) {
+                    if (entries.containsKey(name)) {
+                        continue;
+                    }
+                    try {
+                        String value = environment.getProperty(name);
+                        if (value != null) {
+                            entries.put(name, value);
+                        }
+                    } catch (IllegalArgumentException unresolvable) {
+                        // Unresolvable placeholder: leave it to the live environment lookup
+                    }
+                }
+            }
+        }
+
+        return new PropertySnapshot(entries);
+    }
+
+    /**
+     * The resolved value, or {@code null} when the key is not part of the snapshot.
+     */
+    String get(String key) {
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            String k = keys[i];
+            if (k == null) {
+                return null;
+            }
+            if (k.equals(key)) {
+                return values[i];
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(BiConsumer<String, String> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private void put(String key, String value) {
+        int i = index(key);
+        while (keys[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    private int index(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -1,56 +1,187 @@
-package com.prodguard.spring;
-
-import java.util.Optional;
-
-import org.springframework.beans.BeansException;
-import org.springframework.context.ApplicationContext;
-import org.springframework.core.env.Environment;
-
-import com.prodguard.core.ProdGuardContext;
-
-public class SpringProdGuardContext implements ProdGuardContext {
-
-    private final ApplicationContext applicationContext;
-    private final Environment environment;
-
-    public SpringProdGuardContext(ApplicationContext applicationContext) {
-        this.applicationContext = applicationContext;
-        this.environment = applicationContext.getEnvironment();
-    }
-
-    @Override
-    public Optional<String> getProperty(String key) {
-        return Optional.ofNullable(environment.getProperty(key));
-    }
-
-    @Override
-    public boolean hasBean(String className) {
-        try {
-            Class<?> clazz = Class.forName(className);
-            return !applicationContext.getBeansOfType(clazz).isEmpty();
-        } catch (ClassNotFoundException ex) {
-            return false;
-        }
-    }
-
-    @Override
-    public <T> Optional<T> getBean(Class<T> type) {
-        try {
-            return Optional.of(applicationContext.getBean(type));
-        } catch (BeansException ex) {
-            return Optional.empty();
-        }
-    }
-
-    @Override
-    public String[] getActiveProfiles() {
-        return environment.getActiveProfiles();
-    }
-
-    @Override
-    public Optional<Integer> getLocalServerPort() {
-        return Optional.ofNullable(
-            environment.getProperty("local.server.port", Integer.class)
-        );
-    }
-}
+package com.prodguard.spring;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.BeansException;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.prodguard.core.HttpRoute;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Spring-backed context. Properties are served from a {@link PropertySnapshot} taken when
+ * the context is created, so every check of a run sees the same, already resolved
+ * configuration. Keys outside the snapshot (e.g. relaxed names only an environment
+ * variable provides) are looked up once in the live environment and memoized.
+ * <p>
+ * Typed accessors convert with Spring Boot's {@link ApplicationConversionService}, so
+ * {@code on/off}, {@code 30s} or {@code 10MB} mean what they mean to
+ * {@code @ConfigurationProperties} binding. Each conversion is memoized per key and type.
+ * <p>
+ * {@link #hasBean(String)} answers from bean definition metadata and never creates a
+ * bean, so lazy-init and prototype beans are left untouched by the guard.
+ * <p>
+ * {@link #getRoutes()} lists the Spring MVC mappings the first time it is asked and keeps
+ * them for the lifetime of the context.
+ */
+public class SpringProdGuardContext implements ProdGuardContext {
+
+    private static final String REQUEST_MAPPING_HANDLER_MAPPING =
+        "org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping";
+
+    private final ApplicationContext applicationContext;
+    private final Environment environment;
+    private final PropertySnapshot snapshot;
+    private final ConcurrentMap<String, Optional<String>> fallbackProperties = new ConcurrentHashMap<>();
+    private final String[] activeProfiles;
+    private final ConcurrentMap<String, Boolean> beanPresence = new ConcurrentHashMap<>();
+    private final ConversionService conversionService = ApplicationConversionService.getSharedInstance();
+    private final ConcurrentMap<TypedKey, Optional<?>> converted = new ConcurrentHashMap<>();
+    private volatile List<HttpRoute> routes;
+
+    public SpringProdGuardContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+        this.environment = applicationContext.getEnvironment();
+        this.snapshot = PropertySnapshot.of(environment);
+        this.activeProfiles = environment.getActiveProfiles();
+    }
+
+    @Override
+    public Optional<String> getProperty(String key) {
+        String value = snapshot.get(key);
+        if (value != null) {
+            return Optional.of(value);
+        }
+        return fallbackProperties.computeIfAbsent(
+            key,
+            k -> Optional.ofNullable(environment.getProperty(k))
+        );
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(String key) {
+        return memoized(key, Boolean.class, () -> convert(key, Boolean.class));
+    }
+
+    @Override
+    public Optional<Integer> getInt(String key) {
+        return memoized(key, Integer.class, () -> convert(key, Integer.class));
+    }
+
+    @Override
+    public Optional<Duration> getDuration(String key) {
+        return memoized(key, Duration.class, () -> convert(key, Duration.class));
+    }
+
+    @Override
+    public Optional<Long> getDataSize(String key) {
+        return memoized(key, DataSize.class, () -> convert(key, DataSize.class).map(DataSize::toBytes));
+    }
+
+    @Override
+    public List<String> getList(String key) {
+        return this.<List<String>>memoized(key, List.class, () -> Optional.of(convert(key, String[].class)
+                .map(values -> Arrays.stream(values)
+                        .map(String::trim)
+                        .filter(v -> !v.isEmpty())
+                        .toList())
+                // No scalar value: indexed entries, as a YAML list is flattened to
+                .orElseGet(() -> ProdGuardContext.super.getList(key))))
+            .orElse(List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> memoized(String key, Class<?> type, Supplier<Optional<T>> conversion) {
+        return (Optional<T>) converted.computeIfAbsent(new TypedKey(key, type), k -> conversion.get());
+    }
+
+    private <T> Optional<T> convert(String key, Class<T> type) {
+        try {
+            return getProperty(key).map(value -> conversionService.convert(value, type));
+        } catch (ConversionException ex) {
+            // Unconvertible values are reported as absent, same as the core defaults
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean hasBean(String className) {
+        return beanPresence.computeIfAbsent(className, this::lookupBean);
+    }
+
+    private boolean lookupBean(String className) {
+        ClassLoader classLoader = applicationContext.getClassLoader();
+        if (!ClassUtils.isPresent(className, classLoader)) {
+            return false;
+        }
+        Class<?> type = ClassUtils.resolveClassName(className, classLoader);
+        // includeNonSingletons=true, allowEagerInit=false: type matching on definitions only
+        return applicationContext.getBeanNamesForType(type, true, false).length > 0;
+    }
+
+    @Override
+    public <T> Optional<T> getBean(Class<T> type) {
+        try {
+            return Optional.of(applicationContext.getBean(type));
+        } catch (BeansException ex) {
+            return Optional.empty();
+        }
+    }
+
+    PropertySnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Sorted names of the types of every bean definition, resolved without creating beans.
+     */
+    SortedSet<String> beanTypes() {
+        SortedSet<String> types = new TreeSet<>();
+        for (String name : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(name, false);
+            if (type != null) {
+                types.add(type.getName());
+            }
+        }
+        return types;
+    }
+
+    @Override
+    public String[] getActiveProfiles() {
+        return activeProfiles.clone();
+    }
+
+    @Override
+    public Optional<Integer> getLocalServerPort() {
+        return getInt("local.server.port");
+    }
+
+    @Override
+    public List<HttpRoute> getRoutes() {
+        List<HttpRoute> result = routes;
+        if (result == null) {
+            result = ClassUtils.isPresent(REQUEST_MAPPING_HANDLER_MAPPING, applicationContext.getClassLoader())
+                    ? WebRoutes.of(applicationContext)
+                    : List.of();
+            routes = result;
+        }
+        return result;
+    }
+
+    private record TypedKey(String key, Class<?> type) {
+    }
+}
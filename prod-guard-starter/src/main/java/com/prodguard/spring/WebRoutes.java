@@ -0,0 +1,224 @@
+package com.prodguard.spring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.RequestPredicate;
+import org.springframework.web.servlet.function.RequestPredicates;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.support.RouterFunctionMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.prodguard.core.HttpRoute;
+
+/**
+ * Enumerates the routes of a Spring MVC application: annotated handler methods of every
+ * {@link RequestMappingHandlerMapping} and functional routes of every
+ * {@link RouterFunctionMapping}. Only loaded when Spring MVC is on the class path.
+ * <p>
+ * Mappings that produce a stream ({@code text/event-stream}, {@code application/x-ndjson})
+ * are left out: a probe would hold a connection until its timeout. Functional routes are
+ * only listed when their predicates reduce to a path and methods; {@code or}, negated and
+ * custom predicates are skipped since the path they match cannot be named.
+ */
+final class WebRoutes {
+
+    private WebRoutes() {
+    }
+
+    static List<HttpRoute> of(ApplicationContext applicationContext) {
+        Set<HttpRoute> routes = new LinkedHashSet<>();
+
+        for (RequestMappingHandlerMapping mapping
+                : applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (RequestMappingInfo info : mapping.getHandlerMethods().keySet()) {
+                if (isStreaming(info)) {
+                    continue;
+                }
+                Set<String> methods = new LinkedHashSet<>();
+                for (RequestMethod method : info.getMethodsCondition().getMethods()) {
+                    methods.add(method.name());
+                }
+                for (String pattern : info.getPatternValues()) {
+                    routes.add(new HttpRoute(pattern, methods));
+                }
+            }
+        }
+
+        for (RouterFunctionMapping mapping
+                : applicationContext.getBeansOfType(RouterFunctionMapping.class).values()) {
+            RouterFunction<?> routerFunction = mapping.getRouterFunction();
+            if (routerFunction != null) {
+                routerFunction.accept(new FunctionalRoutes(routes));
+            }
+        }
+
+        return List.copyOf(routes);
+    }
+
+    private static boolean isStreaming(RequestMappingInfo info) {
+        return info.getProducesCondition().getProducibleMediaTypes().stream()
+            .anyMatch(type -> MediaType.TEXT_EVENT_STREAM.equalsTypeAndSubtype(type)
+                || MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(type));
+    }
+
+    /**
+     * Walks a router function, combining the paths of nested routes with their prefixes.
+     */
+    private static final class FunctionalRoutes implements RouterFunctions.Visitor {
+
+        private final Set<HttpRoute> routes;
+        private final Deque<RouteCondition> nesting = new ArrayDeque<>();
+
+        FunctionalRoutes(Set<HttpRoute> routes) {
+            this.routes = routes;
+        }
+
+        @Override
+        public void startNested(RequestPredicate predicate) {
+            nesting.push(RouteCondition.of(predicate));
+        }
+
+        @Override
+        public void endNested(RequestPredicate predicate) {
+            nesting.pop();
+        }
+
+        @Override
+        public void route(RequestPredicate predicate, HandlerFunction<?> handlerFunction) {
+            RouteCondition route = RouteCondition.of(predicate);
+            if (!route.supported || route.path == null) {
+                return;
+            }
+            String path = route.path;
+            Set<String> methods = route.methods;
+            // nesting is a stack: innermost prefix first
+            for (RouteCondition outer : nesting) {
+                if (!outer.supported) {
+                    return;
+                }
+                if (outer.path != null) {
+                    path = join(outer.path, path);
+                }
+                if (methods.isEmpty()) {
+                    methods = outer.methods;
+                }
+            }
+            routes.add(new HttpRoute(path, methods));
+        }
+
+        @Override
+        public void resources(Function<ServerRequest, Optional<Resource>> lookupFunction) {
+        }
+
+        @Override
+        public void attributes(Map<String, Object> attributes) {
+        }
+
+        @Override
+        public void unknown(RouterFunction<?> routerFunction) {
+        }
+
+        private static String join(String prefix, String path) {
+            String head = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+            return path.startsWith("/") ? head + path : head + "/" + path;
+        }
+    }
+
+    /**
+     * Path and methods a request predicate requires; {@code supported} is false when the
+     * predicate cannot be reduced to them.
+     */
+    private static final class RouteCondition implements RequestPredicates.Visitor {
+
+        private String path;
+        private final Set<String> methods = new LinkedHashSet<>();
+        private boolean supported = true;
+
+        static RouteCondition of(RequestPredicate predicate) {
+            RouteCondition condition = new RouteCondition();
+            predicate.accept(condition);
+            return condition;
+        }
+
+        @Override
+        public void method(Set<HttpMethod> httpMethods) {
+            httpMethods.forEach(method -> methods.add(method.name()));
+        }
+
+        @Override
+        public void path(String pattern) {
+            if (path != null) {
+                supported = false;
+            }
+            path = pattern;
+        }
+
+        @Override
+        public void pathExtension(String extension) {
+            supported = false;
+        }
+
+        @Override
+        public void header(String name, String value) {
+        }
+
+        @Override
+        public void param(String name, String value) {
+        }
+
+        @Override
+        public void startAnd() {
+        }
+
+        @Override
+        public void and() {
+        }
+
+        @Override
+        public void endAnd() {
+        }
+
+        @Override
+        public void startOr() {
+            supported = false;
+        }
+
+        @Override
+        public void or() {
+        }
+
+        @Override
+        public void endOr() {
+        }
+
+        @Override
+        public void startNegate() {
+            supported = false;
+        }
+
+        @Override
+        public void endNegate() {
+        }
+
+        @Override
+        public void unknown(RequestPredicate predicate) {
+            supported = false;
+        }
+    }
+}
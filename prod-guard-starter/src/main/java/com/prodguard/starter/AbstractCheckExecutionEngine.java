@@ -0,0 +1,89 @@
+package com.prodguard.starter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Base class for engines that honour an {@link ExecutionBudget}.
+ */
+public abstract class AbstractCheckExecutionEngine implements CheckExecutionEngine {
+
+    protected final ExecutionBudget budget;
+
+    protected AbstractCheckExecutionEngine(ExecutionBudget budget) {
+        this.budget = budget == null ? ExecutionBudget.UNBOUNDED : budget;
+    }
+
+    @Override
+    public List<CheckExecution> execute(List<ProdCheck> checks, ProdGuardContext ctx) {
+        return execute(checks, ctx, System.nanoTime());
+    }
+
+    @Override
+    public List<CheckExecution> execute(List<ProdCheck> checks, ProdGuardContext ctx, long runStartNanos) {
+        return execute(checks, ctx, runStartNanos, execution -> false);
+    }
+
+    @Override
+    public abstract List<CheckExecution> execute(List<ProdCheck> checks, ProdGuardContext ctx, long runStartNanos,
+                                                 Predicate<CheckExecution> abortWhen);
+
+    /**
+     * Nanoseconds a check may still run for, given the run deadline and its own timeout.
+     */
+    protected long remainingNanos(String code, long runDeadline) {
+        long remaining = runDeadline == Long.MAX_VALUE
+                ? Long.MAX_VALUE
+                : runDeadline - System.nanoTime();
+        Duration timeout = budget.timeoutFor(code);
+        return timeout == null ? remaining : Math.min(remaining, timeout.toNanos());
+    }
+
+    /**
+     * Runs a check on the current thread, measuring its wall time, CPU time and allocations
+     * and recording a {@code com.prodguard.CheckExecution} JFR event.
+     */
+    protected static CheckExecution measure(ProdCheck check, ProdGuardContext ctx) {
+        CheckDescriptor descriptor = check.descriptor();
+        CheckExecutionEvent event = new CheckExecutionEvent();
+        event.begin();
+        CheckMeter meter = CheckMeter.start();
+        Optional<CheckResult> result;
+        try {
+            result = check.check(ctx);
+        } catch (RuntimeException | Error e) {
+            event.end(descriptor, CheckExecutionEvent.ERROR, meter.stop());
+            throw e;
+        }
+        CheckTiming timing = meter.stop();
+        event.end(
+            descriptor,
+            result.map(r -> r.outcome().name()).orElse(CheckExecutionEvent.PASSED),
+            timing
+        );
+        return new CheckExecution(descriptor, result, timing);
+    }
+
+    // Surface check failures to the runner unchanged, as the inline loop always did
+    protected static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("prod-guard check failed", cause);
+    }
+
+    protected static IllegalStateException interrupted(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new IllegalStateException("prod-guard check execution was interrupted", e);
+    }
+}
@@ -0,0 +1,64 @@
+package com.prodguard.starter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+
+/**
+ * Identifies the prod-guard build that is running: the version filtered into
+ * {@code META-INF/prodguard/build.properties} at build time and a digest of the bytecode
+ * of individual check classes, so snapshot rebuilds that keep the version still differ.
+ */
+final class BuildInfo {
+
+    private static final String RESOURCE = "/META-INF/prodguard/build.properties";
+
+    private static final String VERSION = loadVersion();
+
+    private BuildInfo() {
+    }
+
+    /**
+     * The prod-guard version, or {@code null} when the build information is unavailable
+     * (e.g. running from unfiltered sources in an IDE).
+     */
+    static String version() {
+        return VERSION;
+    }
+
+    /**
+     * Hex SHA-256 of the class file of the given type, or {@code "unknown"} when the class
+     * file cannot be read from its class loader.
+     */
+    static String classDigest(Class<?> type) {
+        String name = type.getName();
+        try (InputStream in = type.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            if (in == null) {
+                return "unknown";
+            }
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(in.readAllBytes()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return "unknown";
+        }
+    }
+
+    private static String loadVersion() {
+        try (InputStream in = BuildInfo.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                Properties properties = new Properties();
+                properties.load(in);
+                String version = properties.getProperty("version");
+                // An unfiltered resource still holds the placeholder
+                if (version != null && !version.isBlank() && !version.startsWith("${")) {
+                    return version;
+                }
+            }
+        } catch (IOException e) {
+            // fall back to the manifest below
+        }
+        return BuildInfo.class.getPackage().getImplementationVersion();
+    }
+}
@@ -0,0 +1,33 @@
+package com.prodguard.starter;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckResult;
+
+/**
+ * Outcome of running a single check: its descriptor, the result it produced, if any,
+ * and what running it cost.
+ */
+public record CheckExecution(
+        CheckDescriptor descriptor,
+        Optional<CheckResult> result,
+        CheckTiming timing
+) {
+    public CheckExecution(CheckDescriptor descriptor, Optional<CheckResult> result) {
+        this(descriptor, result, CheckTiming.NOT_MEASURED);
+    }
+
+    public String code() {
+        return descriptor.code();
+    }
+
+    public static CheckExecution timedOut(CheckDescriptor descriptor, Duration limit) {
+        return new CheckExecution(descriptor, Optional.of(CheckResult.timedOut(descriptor, limit)));
+    }
+
+    public static CheckExecution skipped(CheckDescriptor descriptor, String reason) {
+        return new CheckExecution(descriptor, Optional.of(CheckResult.skipped(descriptor, reason)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.prodguard.starter;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Runs a batch of checks against a context.
+ * <p>
+ * Implementations must return one {@link CheckExecution} per check, in the same order
+ * as the given list, regardless of the order in which checks actually complete.
+ */
+public interface CheckExecutionEngine {
+
+    List<CheckExecution> execute(List<ProdCheck> checks, ProdGuardContext ctx);
+
+    /**
+     * Runs one batch of a run that started at {@code runStartNanos} ({@link System#nanoTime()}),
+     * so a run-wide budget spans every batch. Engines without a budget ignore it.
+     */
+    default List<CheckExecution> execute(List<ProdCheck> checks, ProdGuardContext ctx, long runStartNanos) {
+        return execute(checks, ctx);
+    }
+
+    /**
+     * Like {@link #execute(List, ProdGuardContext, long)}, but stops the batch as soon as a
+     * completed execution matches {@code abortWhen}: checks still running are cancelled and,
+     * like checks never started, are left out of the returned list, while checks that had
+     * already finished are returned. Engines that cannot abort run the whole batch.
+     */
+    default List<CheckExecution> execute(List<ProdCheck> checks, ProdGuardContext ctx, long runStartNanos,
+                                         Predicate<CheckExecution> abortWhen) {
+        return execute(checks, ctx, runStartNanos);
+    }
+}
@@ -0,0 +1,56 @@
+package com.prodguard.starter;
+
+import com.prodguard.core.CheckDescriptor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event spanning a single {@code ProdCheck.check} call. Costs nothing beyond an
+ * allocation when no recording enables it.
+ */
+@Name("com.prodguard.CheckExecution")
+@Label("Prod Guard Check Execution")
+@Category("Prod Guard")
+@Description("Execution of a single prod-guard check")
+final class CheckExecutionEvent extends Event {
+
+    static final String PASSED = "PASSED";
+    static final String ERROR = "ERROR";
+
+    @Label("Code")
+    String code;
+
+    @Label("Tier")
+    String tier;
+
+    @Label("Outcome")
+    @Description("PASSED, FAILED, TIMED_OUT, UNREACHABLE, SKIPPED, or ERROR when the check threw")
+    String outcome;
+
+    @Label("CPU Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long cpuTime;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+
+    void end(CheckDescriptor descriptor, String outcome, CheckTiming timing) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.code = descriptor.code();
+        this.tier = descriptor.tier().name();
+        this.outcome = outcome;
+        this.cpuTime = timing.cpuNanos();
+        this.allocated = timing.allocatedBytes();
+        commit();
+    }
+}
@@ -0,0 +1,55 @@
+package com.prodguard.starter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Samples wall time, thread CPU time and allocated bytes of the current thread.
+ * {@link #start()} and {@link #stop()} must be called on the same thread.
+ */
+final class CheckMeter {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS =
+            THREADS instanceof com.sun.management.ThreadMXBean sun
+                    && sun.isThreadAllocatedMemorySupported()
+                    && sun.isThreadAllocatedMemoryEnabled()
+                ? sun
+                : null;
+    private static final boolean CPU_TIME =
+            THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+
+    private final long wallStart;
+    private final long cpuStart;
+    private final long allocatedStart;
+
+    private CheckMeter() {
+        this.cpuStart = cpuTime();
+        this.allocatedStart = allocatedBytes();
+        this.wallStart = System.nanoTime();
+    }
+
+    static CheckMeter start() {
+        return new CheckMeter();
+    }
+
+    CheckTiming stop() {
+        long wall = System.nanoTime() - wallStart;
+        long cpu = cpuTime();
+        long allocated = allocatedBytes();
+        return new CheckTiming(
+            wall,
+            cpuStart < 0 || cpu < 0 ? -1 : cpu - cpuStart,
+            allocatedStart < 0 || allocated < 0 ? -1 : allocated - allocatedStart
+        );
+    }
+
+    // Both counters report -1 where unsupported, including for virtual threads on some JDKs
+    private static long cpuTime() {
+        return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATIONS != null ? ALLOCATIONS.getCurrentThreadAllocatedBytes() : -1;
+    }
+}
@@ -0,0 +1,52 @@
+package com.prodguard.starter;
+
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.prodguard.core.ProdCheck;
+
+/**
+ * Ordered list of planned checks for a guard run. Disabled checks are kept in the plan
+ * for reporting but are never executed.
+ */
+public record CheckPlan(List<PlannedCheck> entries) {
+
+    public CheckPlan {
+        entries = List.copyOf(entries);
+    }
+
+    public List<PlannedCheck> enabled() {
+        return entries.stream().filter(PlannedCheck::enabled).toList();
+    }
+
+    public List<PlannedCheck> disabled() {
+        return entries.stream().filter(e -> !e.enabled()).toList();
+    }
+
+    /**
+     * The sub-plan of entries matching the given predicate, in the same order.
+     */
+    public CheckPlan filter(Predicate<PlannedCheck> predicate) {
+        return new CheckPlan(entries.stream().filter(predicate).toList());
+    }
+
+    /**
+     * Enabled entries grouped by stage, cheapest stage first.
+     */
+    public List<List<PlannedCheck>> stages() {
+        return List.copyOf(
+            enabled().stream()
+                .collect(Collectors.groupingBy(PlannedCheck::stage, TreeMap::new, Collectors.toList()))
+                .values()
+        );
+    }
+
+    public List<ProdCheck> checksToRun() {
+        return entries.stream()
+                .filter(PlannedCheck::enabled)
+                .map(PlannedCheck::check)
+                .toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.prodguard.starter;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.ProdCheck;
+
+/**
+ * Resolves the effective severity of every check from its static descriptor, before
+ * anything runs, so checks configured as DISABLED are never invoked.
+ * <p>
+ * Enabled checks are also assigned a stage: cheaper cost classes run in earlier stages,
+ * and a check always runs in a later stage than its enabled prerequisites.
+ */
+public class CheckPlanner {
+
+    private final SeverityResolver severityResolver;
+
+    public CheckPlanner(SeverityResolver severityResolver) {
+        this.severityResolver = severityResolver;
+    }
+
+    public CheckPlan plan(List<ProdCheck> checks) {
+        List<PlannedCheck> resolved = checks.stream()
+                .map(check -> {
+                    CheckDescriptor descriptor = check.descriptor();
+                    return new PlannedCheck(check, descriptor, severityResolver.resolve(descriptor), 0);
+                })
+                // Deterministic order by check code, whatever order beans were registered or checks complete in
+                .sorted(Comparator.comparing(PlannedCheck::code))
+                .toList();
+
+        Map<String, PlannedCheck> enabled = resolved.stream()
+                .filter(PlannedCheck::enabled)
+                .collect(Collectors.toMap(PlannedCheck::code, Function.identity()));
+        Map<String, Rank> ranks = new HashMap<>();
+        for (PlannedCheck entry : resolved) {
+            rank(entry, enabled, ranks, new LinkedHashSet<>());
+        }
+
+        List<Rank> order = ranks.values().stream().distinct().sorted().toList();
+        return new CheckPlan(
+            resolved.stream()
+                .map(entry -> entry.withStage(order.indexOf(ranks.get(entry.code()))))
+                .toList()
+        );
+    }
+
+    private static Rank rank(PlannedCheck entry, Map<String, PlannedCheck> enabled,
+                             Map<String, Rank> ranks, Set<String> visiting) {
+        Rank known = ranks.get(entry.code());
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(entry.code())) {
+            throw new IllegalStateException("prod-guard checks have cyclic prerequisites: " + visiting);
+        }
+
+        Rank rank = new Rank(entry.cost().ordinal(), 0);
+        for (String code : entry.check().prerequisites()) {
+            PlannedCheck prerequisite = enabled.get(code);
+            if (prerequisite != null) {
+                rank = rank.atLeastAfter(rank(prerequisite, enabled, ranks, visiting));
+            }
+        }
+
+        visiting.remove(entry.code());
+        ranks.put(entry.code(), rank);
+        return rank;
+    }
+
+    /**
+     * Position of a check in the schedule: its cost class, then how many prerequisites
+     * of the same cost class must run before it.
+     */
+    private record Rank(int cost, int depth) implements Comparable<Rank> {
+
+        Rank atLeastAfter(Rank prerequisite) {
+            Rank after = new Rank(prerequisite.cost, prerequisite.depth + 1);
+            return compareTo(after) >= 0 ? this : after;
+        }
+
+        @Override
+        public int compareTo(Rank other) {
+            return cost != other.cost
+                    ? Integer.compare(cost, other.cost)
+                    : Integer.compare(depth, other.depth);
+        }
+    }
+}
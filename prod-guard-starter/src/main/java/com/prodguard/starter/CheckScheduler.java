@@ -0,0 +1,176 @@
+package com.prodguard.starter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.EffectiveSeverity;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Runs a {@link CheckPlan} stage by stage through a {@link CheckExecutionEngine},
+ * cheapest stage first.
+ * <p>
+ * Before each stage, checks whose prerequisites reported a blocking issue, could not reach
+ * their target or were skipped themselves are pruned and reported as SKIPPED; warnings,
+ * notes and timeouts of a prerequisite do not prune. With fail-fast enabled, the first blocking ERROR cancels the
+ * checks still running in its stage and skips every later stage.
+ */
+public class CheckScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckScheduler.class);
+
+    private final CheckExecutionEngine engine;
+    private final SeverityResolver severityResolver;
+    private final boolean failFast;
+    private final PropertyKeyIndex keyIndex;
+
+    public CheckScheduler(CheckExecutionEngine engine, SeverityResolver severityResolver, boolean failFast) {
+        this(engine, severityResolver, failFast, null);
+    }
+
+    /**
+     * With a {@code keyIndex}, the property keys each check reads are recorded into it.
+     */
+    CheckScheduler(CheckExecutionEngine engine, SeverityResolver severityResolver, boolean failFast,
+                   PropertyKeyIndex keyIndex) {
+        this.engine = engine;
+        this.severityResolver = severityResolver;
+        this.failFast = failFast;
+        this.keyIndex = keyIndex;
+    }
+
+    /**
+     * Runs the enabled checks of the plan. Pruned checks get a SKIPPED execution; checks
+     * skipped by fail-fast have none. Executions are returned ordered by check code,
+     * whatever stage, engine or cache they came from.
+     */
+    public List<CheckExecution> execute(CheckPlan plan, ProdGuardContext ctx) {
+        return execute(plan, ctx, Map.of());
+    }
+
+    /**
+     * Like {@link #execute(CheckPlan, ProdGuardContext)}, but checks with a result in
+     * {@code known} are not run: the known result is reported instead, unmeasured.
+     */
+    public List<CheckExecution> execute(CheckPlan plan, ProdGuardContext ctx, Map<String, Optional<CheckResult>> known) {
+        return execute(plan, ctx, known, execution -> { });
+    }
+
+    /**
+     * Like {@link #execute(CheckPlan, ProdGuardContext, Map)}, additionally handing every
+     * execution to {@code onCompleted} on the calling thread as soon as it is known: when
+     * the check completes if the engine reports completions, at the end of its stage
+     * otherwise (e.g. checks that timed out).
+     */
+    public List<CheckExecution> execute(CheckPlan plan, ProdGuardContext ctx, Map<String, Optional<CheckResult>> known,
+                                        Consumer<CheckExecution> onCompleted) {
+        return execute(plan, ctx, known, checks -> { }, onCompleted);
+    }
+
+    /**
+     * Like {@link #execute(CheckPlan, ProdGuardContext, Map, Consumer)}, additionally handing
+     * {@code onStageStarted} the checks each stage is about to run, once pruned and known
+     * checks are left out. Stages with nothing to run or skipped by fail-fast are not announced.
+     */
+    public List<CheckExecution> execute(CheckPlan plan, ProdGuardContext ctx, Map<String, Optional<CheckResult>> known,
+                                        Consumer<List<ProdCheck>> onStageStarted, Consumer<CheckExecution> onCompleted) {
+        long runStart = System.nanoTime();
+        List<List<PlannedCheck>> stages = plan.stages();
+        List<CheckExecution> executions = new ArrayList<>();
+        // Prerequisite code -> why its dependents cannot run
+        Map<String, String> unsatisfied = new HashMap<>();
+
+        for (int i = 0; i < stages.size(); i++) {
+            List<ProdCheck> toRun = new ArrayList<>();
+            List<ProdCheck> checks = new ArrayList<>();
+            List<CheckExecution> reused = new ArrayList<>();
+            List<CheckExecution> pruned = new ArrayList<>();
+            for (PlannedCheck entry : stages.get(i)) {
+                Optional<String> failed = entry.check().prerequisites().stream()
+                        .filter(unsatisfied::containsKey)
+                        .sorted()
+                        .findFirst();
+                if (failed.isPresent()) {
+                    String reason = "prerequisite " + failed.get() + " " + unsatisfied.get(failed.get());
+                    log.info("[prod-guard] {} skipped: {}", entry.code(), reason);
+                    pruned.add(CheckExecution.skipped(entry.descriptor(), reason));
+                } else if (known.containsKey(entry.code())) {
+                    reused.add(new CheckExecution(entry.descriptor(), known.get(entry.code())));
+                } else {
+                    toRun.add(entry.check());
+                    checks.add(keyIndex == null ? entry.check() : new KeyRecordingCheck(entry.check(), keyIndex));
+                }
+            }
+
+            pruned.forEach(onCompleted);
+            reused.forEach(onCompleted);
+            List<CheckExecution> completed = new ArrayList<>(pruned);
+            completed.addAll(reused);
+            boolean stop = failFast && reused.stream().anyMatch(this::isBlocking);
+            if (!checks.isEmpty() && !stop) {
+                onStageStarted.accept(List.copyOf(toRun));
+                Set<String> reported = new HashSet<>();
+                List<CheckExecution> stageExecutions = engine.execute(checks, ctx, runStart, execution -> {
+                    reported.add(execution.code());
+                    onCompleted.accept(execution);
+                    return failFast && isBlocking(execution);
+                });
+                stageExecutions.stream()
+                    .filter(execution -> !reported.contains(execution.code()))
+                    .forEach(onCompleted);
+                completed.addAll(stageExecutions);
+            }
+
+            boolean blocking = false;
+            for (CheckExecution execution : completed) {
+                executions.add(execution);
+                if (execution.result().isEmpty()) {
+                    continue;
+                }
+                CheckResult result = execution.result().get();
+                EffectiveSeverity severity = severityResolver.resolve(result);
+                if (result.outcome() == CheckOutcome.SKIPPED) {
+                    unsatisfied.put(execution.code(), "was skipped");
+                } else if (result.outcome() == CheckOutcome.UNREACHABLE) {
+                    unsatisfied.put(execution.code(), "could not reach its target");
+                } else if (severity == EffectiveSeverity.ERROR) {
+                    unsatisfied.put(execution.code(), "reported a blocking issue");
+                }
+                blocking |= severity == EffectiveSeverity.ERROR;
+            }
+
+            if (blocking && failFast) {
+                int cancelled = checks.size() + reused.size() + pruned.size() - completed.size();
+                int remaining = stages.subList(i + 1, stages.size()).stream().mapToInt(List::size).sum();
+                if (cancelled + remaining > 0) {
+                    log.warn("[prod-guard] fail-fast: blocking issue found, cancelled {} running and skipped {} remaining checks",
+                            cancelled, remaining);
+                }
+                break;
+            }
+        }
+
+        executions.sort(Comparator.comparing(CheckExecution::code));
+        return executions;
+    }
+
+    private boolean isBlocking(CheckExecution execution) {
+        return execution.result()
+                .map(severityResolver::resolve)
+                .filter(severity -> severity == EffectiveSeverity.ERROR)
+                .isPresent();
+    }
+}
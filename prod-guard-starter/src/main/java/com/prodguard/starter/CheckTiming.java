@@ -0,0 +1,30 @@
+package com.prodguard.starter;
+
+/**
+ * Cost of a single check run, sampled on the thread that executed it.
+ * <p>
+ * CPU time and allocated bytes come from the JVM's per-thread counters and are
+ * {@code -1} when the JVM cannot provide them (e.g. CPU time of virtual threads).
+ */
+public record CheckTiming(
+        long wallNanos,
+        long cpuNanos,
+        long allocatedBytes
+) {
+    /**
+     * Timing of a check that did not run to completion (timed out or never started).
+     */
+    public static final CheckTiming NOT_MEASURED = new CheckTiming(-1, -1, -1);
+
+    public boolean measured() {
+        return wallNanos >= 0;
+    }
+
+    public boolean hasCpuTime() {
+        return cpuNanos >= 0;
+    }
+
+    public boolean hasAllocatedBytes() {
+        return allocatedBytes >= 0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.prodguard.starter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import com.prodguard.core.CheckOutcome;
+
+/**
+ * Renders the per-check cost of a run as a plain-text table, slowest check first.
+ */
+final class CheckTimingReport {
+
+    private static final String ROW = "%n  %-8s %10s %10s %11s";
+
+    private CheckTimingReport() {
+    }
+
+    static String render(List<CheckExecution> executions, long runWallNanos) {
+        long cpu = 0;
+        long allocated = 0;
+        for (CheckExecution execution : executions) {
+            CheckTiming timing = execution.timing();
+            cpu += Math.max(0, timing.cpuNanos());
+            allocated += Math.max(0, timing.allocatedBytes());
+        }
+
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                "%d checks in %s (cpu %s, allocated %s)",
+                executions.size(), millis(runWallNanos), millis(cpu), bytes(allocated)));
+        out.append(String.format(Locale.ROOT, ROW, "code", "wall", "cpu", "allocated"));
+
+        executions.stream()
+            .sorted(Comparator.comparingLong((CheckExecution e) -> e.timing().wallNanos()).reversed())
+            .forEach(e -> {
+                CheckTiming t = e.timing();
+                out.append(String.format(Locale.ROOT, ROW,
+                        e.code(),
+                        t.measured() ? millis(t.wallNanos()) : notRun(e),
+                        t.hasCpuTime() ? millis(t.cpuNanos()) : "-",
+                        t.hasAllocatedBytes() ? bytes(t.allocatedBytes()) : "-"));
+            });
+
+        return out.toString();
+    }
+
+    // Unmeasured executions either timed out or were reused without running
+    private static String notRun(CheckExecution execution) {
+        return execution.result().filter(r -> r.outcome() == CheckOutcome.TIMED_OUT).isPresent()
+                ? "timed out"
+                : "cached";
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f ms", nanos / 1_000_000.0);
+    }
+
+    private static String bytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
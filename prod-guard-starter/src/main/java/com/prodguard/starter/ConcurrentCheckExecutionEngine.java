@@ -0,0 +1,194 @@
+package com.prodguard.starter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Submits every check to an {@link ExecutorService} so the run takes as long as the
+ * slowest check rather than the sum of all of them.
+ * <p>
+ * A fresh executor is obtained for each run and shut down once results are collected,
+ * so no threads outlive the guard. Per-check deadlines are measured from the moment a
+ * check actually starts, which matters when a fixed pool queues checks.
+ */
+public class ConcurrentCheckExecutionEngine extends AbstractCheckExecutionEngine {
+
+    private final Supplier<ExecutorService> executorFactory;
+
+    public ConcurrentCheckExecutionEngine(Supplier<ExecutorService> executorFactory) {
+        this(executorFactory, ExecutionBudget.UNBOUNDED);
+    }
+
+    public ConcurrentCheckExecutionEngine(Supplier<ExecutorService> executorFactory, ExecutionBudget budget) {
+        super(budget);
+        this.executorFactory = executorFactory;
+    }
+
+    public static ConcurrentCheckExecutionEngine fixedPool(int poolSize, ExecutionBudget budget) {
+        return new ConcurrentCheckExecutionEngine(() ->
+            Executors.newFixedThreadPool(
+                poolSize,
+                Thread.ofPlatform().name("prodguard-check-", 0).daemon(true).factory()
+            ),
+            budget
+        );
+    }
+
+    public static ConcurrentCheckExecutionEngine virtualThreads(ExecutionBudget budget) {
+        return new ConcurrentCheckExecutionEngine(() ->
+            Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("prodguard-check-", 0).factory()
+            ),
+            budget
+        );
+    }
+
+    @Override
+    public List<CheckExecution> execute(List<ProdCheck> checks, ProdGuardContext ctx, long runStartNanos,
+                                        Predicate<CheckExecution> abortWhen) {
+        long deadline = budget.deadlineFrom(runStartNanos);
+        CheckExecution[] executions = new CheckExecution[checks.size()];
+        BlockingQueue<TimedCheck> completed = new LinkedBlockingQueue<>();
+
+        ExecutorService executor = executorFactory.get();
+        ScheduledExecutorService watchdog = budget.isUnbounded()
+                ? null
+                : Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("prodguard-watchdog").daemon(true).factory()
+                );
+
+        try {
+            List<TimedCheck> tasks = new ArrayList<>(checks.size());
+            for (int i = 0; i < checks.size(); i++) {
+                ProdCheck check = checks.get(i);
+                TimedCheck task = new TimedCheck(
+                    i, check, ctx, budget.timeoutFor(check.descriptor().code()), watchdog, completed
+                );
+                tasks.add(task);
+                executor.execute(task);
+            }
+
+            // Consume checks in completion order so an abort is noticed as early as possible
+            for (int pending = tasks.size(); pending > 0; pending--) {
+                TimedCheck task = deadline == Long.MAX_VALUE
+                        ? completed.take()
+                        : completed.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+                if (task == null) {
+                    timeOutRemaining(tasks, executions);
+                    break;
+                }
+
+                CheckExecution execution = outcome(task);
+                executions[task.index] = execution;
+                if (abortWhen.test(execution)) {
+                    cancelRemaining(tasks, executions);
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            throw interrupted(e);
+        } finally {
+            // Never wait for cancelled checks: a hung call must not hold the run hostage
+            executor.shutdownNow();
+            if (watchdog != null) {
+                watchdog.shutdownNow();
+            }
+        }
+
+        return Arrays.stream(executions).filter(Objects::nonNull).toList();
+    }
+
+    // Aborted: cancel what is still running, keep what finished but was not consumed yet
+    private static void cancelRemaining(List<TimedCheck> tasks, CheckExecution[] executions) {
+        for (TimedCheck task : tasks) {
+            if (executions[task.index] == null && !task.cancel(true)) {
+                executions[task.index] = outcome(task);
+            }
+        }
+    }
+
+    // Run budget exhausted: cancel what is still running, keep what finished in the meantime
+    private void timeOutRemaining(List<TimedCheck> tasks, CheckExecution[] executions) {
+        for (TimedCheck task : tasks) {
+            if (executions[task.index] != null) {
+                continue;
+            }
+            executions[task.index] = task.cancel(true)
+                    ? CheckExecution.timedOut(task.check.descriptor(), budget.total())
+                    : outcome(task);
+        }
+    }
+
+    private static CheckExecution outcome(TimedCheck task) {
+        try {
+            return task.get();
+        } catch (CancellationException e) {
+            return CheckExecution.timedOut(task.check.descriptor(), task.timeout);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            throw interrupted(e);
+        }
+    }
+
+    /**
+     * Check task that arms a watchdog when it starts running and is cancelled by it
+     * if the check outlives its own deadline. Announces itself on a queue once done.
+     */
+    private static final class TimedCheck extends FutureTask<CheckExecution> {
+
+        private final int index;
+        private final ProdCheck check;
+        private final Duration timeout;
+        private final ScheduledExecutorService watchdog;
+        private final BlockingQueue<TimedCheck> completed;
+
+        TimedCheck(int index, ProdCheck check, ProdGuardContext ctx, Duration timeout,
+                   ScheduledExecutorService watchdog, BlockingQueue<TimedCheck> completed) {
+            super(() -> measure(check, ctx));
+            this.index = index;
+            this.check = check;
+            this.timeout = timeout;
+            this.watchdog = watchdog;
+            this.completed = completed;
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
+
+        @Override
+        public void run() {
+            ScheduledFuture<?> alarm = timeout == null
+                    ? null
+                    : watchdog.schedule(() -> cancel(true), timeout.toNanos(), TimeUnit.NANOSECONDS);
+            try {
+                super.run();
+            } finally {
+                if (alarm != null) {
+                    alarm.cancel(false);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.prodguard.starter;
+
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Re-validates the checks affected by a configuration refresh
+ * ({@code /actuator/refresh}, config server push, ...).
+ */
+public class EnvironmentChangeRevalidator implements ApplicationListener<EnvironmentChangeEvent> {
+
+    private final ProdGuardRunner runner;
+
+    public EnvironmentChangeRevalidator(ProdGuardRunner runner) {
+        this.runner = runner;
+    }
+
+    @Override
+    public void onApplicationEvent(EnvironmentChangeEvent event) {
+        runner.revalidate(event.getKeys());
+    }
+}
@@ -0,0 +1,47 @@
+package com.prodguard.starter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Time limits applied to a guard run: a wall-clock budget for the whole run and a
+ * deadline per check. A {@code null} limit means unbounded.
+ */
+public record ExecutionBudget(
+        Duration total,
+        Duration defaultCheckTimeout,
+        Map<String, Duration> checkTimeouts
+) {
+
+    public static final ExecutionBudget UNBOUNDED = new ExecutionBudget(null, null, Map.of());
+
+    public ExecutionBudget {
+        checkTimeouts = checkTimeouts == null ? Map.of() : Map.copyOf(checkTimeouts);
+    }
+
+    public static ExecutionBudget from(ProdGuardProperties properties) {
+        return new ExecutionBudget(
+            properties.getBudget(),
+            properties.getCheckTimeout(),
+            properties.getCheckTimeouts()
+        );
+    }
+
+    public boolean isUnbounded() {
+        return total == null && defaultCheckTimeout == null && checkTimeouts.isEmpty();
+    }
+
+    /**
+     * Deadline of a single check, or {@code null} when the check may run for as long as the budget allows.
+     */
+    public Duration timeoutFor(String code) {
+        return checkTimeouts.getOrDefault(code, defaultCheckTimeout);
+    }
+
+    /**
+     * Absolute {@link System#nanoTime()} deadline of a run started at {@code startNanos}.
+     */
+    public long deadlineFrom(long startNanos) {
+        return total == null ? Long.MAX_VALUE : startNanos + total.toNanos();
+    }
+}
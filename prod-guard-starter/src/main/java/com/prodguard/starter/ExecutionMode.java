@@ -0,0 +1,13 @@
+package com.prodguard.starter;
+
+/**
+ * Strategy used by the {@link CheckExecutionEngine} to run checks.
+ */
+public enum ExecutionMode {
+    /** One check after another on the startup thread (default). */
+    SEQUENTIAL,
+    /** A bounded pool of platform threads, sized by {@code prodguard.execution.pool-size}. */
+    FIXED_POOL,
+    /** One virtual thread per check. */
+    VIRTUAL_THREADS
+}
@@ -0,0 +1,80 @@
+package com.prodguard.starter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.EffectiveSeverity;
+
+/**
+ * Writes one JSON object per executed check, one per line, flushed as each check
+ * completes. Runs append to the same file, each line carrying the run's start time.
+ */
+public class JsonLinesReportSink implements ReportSink {
+
+    private final Path file;
+    private Writer out;
+    private String run;
+
+    /**
+     * Appends to {@code file}, creating it and its directory when missing.
+     */
+    public JsonLinesReportSink(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Writes to {@code out}, which is flushed after every line but never closed.
+     */
+    public JsonLinesReportSink(Writer out) {
+        this.file = null;
+        this.out = out;
+    }
+
+    @Override
+    public void begin(CheckPlan plan) throws IOException {
+        run = Instant.now().toString();
+        if (file != null) {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    @Override
+    public void write(CheckExecution execution, EffectiveSeverity severity) throws IOException {
+        CheckResult result = execution.result().orElse(null);
+        JsonWriter json = new JsonWriter(out).beginObject()
+            .name("run").value(run)
+            .name("code").value(execution.code())
+            .name("name").value(execution.descriptor().name())
+            .name("status").value(result == null ? "PASSED" : result.outcome().name())
+            .name("severity").value(severity == null ? null : severity.name())
+            .name("message").value(result == null ? null : result.message())
+            .name("remediation").value(result == null ? null : result.remediation());
+        if (execution.timing().measured()) {
+            json.name("wallNanos").value(execution.timing().wallNanos());
+        }
+        json.endObject();
+        out.write('\n');
+        out.flush();
+    }
+
+    @Override
+    public void end() throws IOException {
+        if (file != null && out != null) {
+            try {
+                out.close();
+            } finally {
+                out = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.prodguard.starter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Minimal streaming JSON writer for the guard's own reports, so the starter needs no
+ * JSON library. Callers are trusted to nest names and values correctly.
+ */
+final class JsonWriter {
+
+    private final Appendable out;
+    private boolean separate;
+
+    JsonWriter(Appendable out) {
+        this.out = out;
+    }
+
+    JsonWriter beginObject() {
+        return open('{');
+    }
+
+    JsonWriter endObject() {
+        return close('}');
+    }
+
+    JsonWriter beginArray() {
+        return open('[');
+    }
+
+    JsonWriter endArray() {
+        return close(']');
+    }
+
+    JsonWriter name(String name) {
+        separator();
+        string(name);
+        append(":");
+        separate = false;
+        return this;
+    }
+
+    JsonWriter value(String value) {
+        separator();
+        if (value == null) {
+            append("null");
+        } else {
+            string(value);
+        }
+        separate = true;
+        return this;
+    }
+
+    JsonWriter value(long value) {
+        separator();
+        append(Long.toString(value));
+        separate = true;
+        return this;
+    }
+
+    JsonWriter value(boolean value) {
+        separator();
+        append(Boolean.toString(value));
+        separate = true;
+        return this;
+    }
+
+    private JsonWriter open(char c) {
+        separator();
+        append(String.valueOf(c));
+        separate = false;
+        return this;
+    }
+
+    private JsonWriter close(char c) {
+        append(String.valueOf(c));
+        separate = true;
+        return this;
+    }
+
+    private void separator() {
+        if (separate) {
+            append(",");
+        }
+    }
+
+    private void string(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        append(sb.append('"'));
+    }
+
+    private void append(CharSequence s) {
+        try {
+            out.append(s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
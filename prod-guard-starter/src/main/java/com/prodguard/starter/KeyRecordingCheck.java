@@ -0,0 +1,123 @@
+package com.prodguard.starter;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.HttpRoute;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Runs a check against a context that records every property key it reads, and hands
+ * the keys to a {@link PropertyKeyIndex} once the check completes.
+ */
+final class KeyRecordingCheck implements ProdCheck {
+
+    private final ProdCheck delegate;
+    private final PropertyKeyIndex index;
+
+    KeyRecordingCheck(ProdCheck delegate, PropertyKeyIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Override
+    public Optional<CheckResult> check(ProdGuardContext ctx) {
+        RecordingContext recording = new RecordingContext(ctx);
+        Optional<CheckResult> result = delegate.check(recording);
+        index.record(delegate.descriptor().code(), recording.keys);
+        return result;
+    }
+
+    @Override
+    public CheckDescriptor descriptor() {
+        return delegate.descriptor();
+    }
+
+    @Override
+    public CheckCost cost() {
+        return delegate.cost();
+    }
+
+    @Override
+    public Set<String> prerequisites() {
+        return delegate.prerequisites();
+    }
+
+    private static final class RecordingContext implements ProdGuardContext {
+
+        private final ProdGuardContext delegate;
+        private final Set<String> keys = new HashSet<>();
+
+        RecordingContext(ProdGuardContext delegate) {
+            this.delegate = delegate;
+        }
+
+        private String read(String key) {
+            keys.add(key);
+            return key;
+        }
+
+        @Override
+        public Optional<String> getProperty(String key) {
+            return delegate.getProperty(read(key));
+        }
+
+        @Override
+        public Optional<Boolean> getBoolean(String key) {
+            return delegate.getBoolean(read(key));
+        }
+
+        @Override
+        public Optional<Integer> getInt(String key) {
+            return delegate.getInt(read(key));
+        }
+
+        @Override
+        public Optional<Duration> getDuration(String key) {
+            return delegate.getDuration(read(key));
+        }
+
+        @Override
+        public Optional<Long> getDataSize(String key) {
+            return delegate.getDataSize(read(key));
+        }
+
+        @Override
+        public List<String> getList(String key) {
+            return delegate.getList(read(key));
+        }
+
+        @Override
+        public Optional<Integer> getLocalServerPort() {
+            read("local.server.port");
+            return delegate.getLocalServerPort();
+        }
+
+        @Override
+        public <T> Optional<T> getBean(Class<T> type) {
+            return delegate.getBean(type);
+        }
+
+        @Override
+        public boolean hasBean(String className) {
+            return delegate.hasBean(className);
+        }
+
+        @Override
+        public String[] getActiveProfiles() {
+            return delegate.getActiveProfiles();
+        }
+
+        @Override
+        public List<HttpRoute> getRoutes() {
+            return delegate.getRoutes();
+        }
+    }
+}
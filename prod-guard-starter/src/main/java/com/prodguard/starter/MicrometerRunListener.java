@@ -0,0 +1,80 @@
+package com.prodguard.starter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.EffectiveSeverity;
+import com.prodguard.core.ProdGuardContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes guard runs to Micrometer:
+ * <ul>
+ *   <li>{@code prodguard.run.duration}: wall time of each run</li>
+ *   <li>{@code prodguard.check.duration}: wall time per check, tagged by {@code code}</li>
+ *   <li>{@code prodguard.check.issues}: issues reported, tagged by effective {@code severity} and {@code code}</li>
+ *   <li>{@code prodguard.run.blocking.issues}: ERROR issues found by the last run</li>
+ * </ul>
+ * DISABLED issues are not counted, matching what the runner reports.
+ */
+public class MicrometerRunListener implements ProdGuardRunListener {
+
+    private final MeterRegistry registry;
+    private final SeverityResolver severityResolver;
+    private final AtomicInteger blockingIssues;
+    private volatile long runStarted;
+
+    public MicrometerRunListener(MeterRegistry registry, SeverityResolver severityResolver) {
+        this.registry = registry;
+        this.severityResolver = severityResolver;
+        this.blockingIssues = registry.gauge("prodguard.run.blocking.issues", new AtomicInteger());
+    }
+
+    @Override
+    public void runStarted(CheckPlan plan, ProdGuardContext ctx) {
+        runStarted = System.nanoTime();
+    }
+
+    @Override
+    public void runFinished(List<CheckExecution> executions) {
+        Timer.builder("prodguard.run.duration")
+            .description("Wall time of a prod-guard run")
+            .register(registry)
+            .record(System.nanoTime() - runStarted, TimeUnit.NANOSECONDS);
+
+        int blocking = 0;
+        for (CheckExecution execution : executions) {
+            if (execution.timing().measured()) {
+                Timer.builder("prodguard.check.duration")
+                    .description("Wall time of a single prod-guard check")
+                    .tag("code", execution.code())
+                    .register(registry)
+                    .record(execution.timing().wallNanos(), TimeUnit.NANOSECONDS);
+            }
+
+            if (execution.result().isEmpty()) {
+                continue;
+            }
+            CheckResult result = execution.result().get();
+            EffectiveSeverity severity = severityResolver.resolve(result);
+            if (severity == EffectiveSeverity.DISABLED) {
+                continue;
+            }
+            if (severity == EffectiveSeverity.ERROR) {
+                blocking++;
+            }
+            Counter.builder("prodguard.check.issues")
+                .description("Issues reported by prod-guard checks")
+                .tag("severity", severity.name())
+                .tag("code", result.code())
+                .register(registry)
+                .increment();
+        }
+        blockingIssues.set(blocking);
+    }
+}
@@ -0,0 +1,33 @@
+package com.prodguard.starter;
+
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.EffectiveSeverity;
+import com.prodguard.core.ProdCheck;
+
+/**
+ * A check together with the severity it was resolved to before running and the stage
+ * it is scheduled in (lower stages run first).
+ */
+public record PlannedCheck(
+        ProdCheck check,
+        CheckDescriptor descriptor,
+        EffectiveSeverity severity,
+        int stage
+) {
+    public String code() {
+        return descriptor.code();
+    }
+
+    public CheckCost cost() {
+        return check.cost();
+    }
+
+    public boolean enabled() {
+        return severity != EffectiveSeverity.DISABLED;
+    }
+
+    PlannedCheck withStage(int stage) {
+        return new PlannedCheck(check, descriptor, severity, stage);
+    }
+}
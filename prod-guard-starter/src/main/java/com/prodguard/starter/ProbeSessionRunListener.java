@@ -0,0 +1,45 @@
+package com.prodguard.starter;
+
+import java.util.List;
+
+import com.prodguard.checks.premium.security.ProbeSession;
+import com.prodguard.checks.premium.security.ProbingCheck;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Scopes the shared {@link ProbeSession} to a single guard run: every run starts with
+ * an empty session and memoized responses are released once it finishes.
+ * <p>
+ * At the start of each stage the probe requests of the {@link ProbingCheck}s it is about to
+ * run are fired concurrently, so checks find their responses in flight or already arrived,
+ * and each check is registered as a candidate owner of the unreachable reports for its
+ * targets. Checks pruned by a failed prerequisite, served from the cache or skipped by
+ * fail-fast send nothing.
+ */
+public class ProbeSessionRunListener implements ProdGuardRunListener {
+
+    private final ProbeSession probeSession;
+
+    public ProbeSessionRunListener(ProbeSession probeSession) {
+        this.probeSession = probeSession;
+    }
+
+    @Override
+    public void runStarted(CheckPlan plan, ProdGuardContext ctx) {
+        probeSession.reset();
+    }
+
+    @Override
+    public void stageStarted(List<ProdCheck> checks, ProdGuardContext ctx) {
+        checks.stream()
+            .filter(ProbingCheck.class::isInstance)
+            .map(ProbingCheck.class::cast)
+            .forEach(check -> probeSession.prefetch(check.descriptor(), check.probeRequests(ctx)));
+    }
+
+    @Override
+    public void runFinished(List<CheckExecution> executions) {
+        probeSession.reset();
+    }
+}
@@ -1,35 +1,81 @@
-package com.prodguard.starter;
-
-import java.util.List;
-
-import org.springframework.boot.autoconfigure.AutoConfiguration;
-import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.ApplicationContext;
-
-import com.prodguard.core.ProdCheck;
-
-@AutoConfiguration
-@EnableConfigurationProperties(ProdGuardProperties.class)
-public class ProdGuardBaseAutoConfiguration {
-
-    @Bean
-    public SeverityResolver severityResolver(ProdGuardProperties properties) {
-        return new SeverityResolver(properties);
-    }
-
-    @Bean
-    public ProdGuardRunner prodGuardRunner(
-            List<ProdCheck> checks,
-            ApplicationContext applicationContext,
-            SeverityResolver severityResolver,
-            ProdGuardProperties properties) {
-
-        return new ProdGuardRunner(
-            checks,
-            applicationContext,
-            severityResolver,
-            properties
-        );
-    }
-}
+package com.prodguard.starter;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.ApplicationContext;
+
+import com.prodguard.core.ProdCheck;
+
+@AutoConfiguration
+@EnableConfigurationProperties(ProdGuardProperties.class)
+public class ProdGuardBaseAutoConfiguration {
+
+    @Bean
+    public SeverityResolver severityResolver(ProdGuardProperties properties) {
+        return new SeverityResolver(properties);
+    }
+
+    @Bean
+    public CheckPlanner checkPlanner(SeverityResolver severityResolver) {
+        return new CheckPlanner(severityResolver);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CheckExecutionEngine checkExecutionEngine(ProdGuardProperties properties) {
+        ProdGuardProperties.Execution execution = properties.getExecution();
+        ExecutionBudget budget = ExecutionBudget.from(properties);
+        return switch (execution.getMode()) {
+            case SEQUENTIAL -> new SequentialCheckExecutionEngine(budget);
+            case FIXED_POOL -> ConcurrentCheckExecutionEngine.fixedPool(execution.getPoolSize(), budget);
+            case VIRTUAL_THREADS -> ConcurrentCheckExecutionEngine.virtualThreads(budget);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "prodguard.report", name = "json-lines")
+    public JsonLinesReportSink jsonLinesReportSink(ProdGuardProperties properties) {
+        return new JsonLinesReportSink(Path.of(properties.getReport().getJsonLines()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "prodguard.report", name = "sarif")
+    public SarifReportSink sarifReportSink(ProdGuardProperties properties) {
+        return new SarifReportSink(Path.of(properties.getReport().getSarif()));
+    }
+
+    @Bean
+    public ReportSinkRunListener reportSinkRunListener(
+            ObjectProvider<ReportSink> sinks,
+            SeverityResolver severityResolver) {
+        return new ReportSinkRunListener(sinks.orderedStream().toList(), severityResolver);
+    }
+
+    @Bean
+    public ProdGuardRunner prodGuardRunner(
+            List<ProdCheck> checks,
+            ApplicationContext applicationContext,
+            SeverityResolver severityResolver,
+            CheckPlanner checkPlanner,
+            CheckExecutionEngine executionEngine,
+            ObjectProvider<ProdGuardRunListener> listeners,
+            ProdGuardProperties properties) {
+
+        return new ProdGuardRunner(
+            checks,
+            applicationContext,
+            severityResolver,
+            checkPlanner,
+            executionEngine,
+            listeners.orderedStream().toList(),
+            properties
+        );
+    }
+}
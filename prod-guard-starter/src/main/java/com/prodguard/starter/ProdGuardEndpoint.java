@@ -0,0 +1,92 @@
+package com.prodguard.starter;
+
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.http.MediaType;
+
+/**
+ * {@code /actuator/prodguard}: the latest guard results, served from a snapshot that is
+ * only rebuilt after a run records new results.
+ * <p>
+ * Reads are conditional: {@link #results(String)} answers 304 while the entity tag sent
+ * in {@code If-None-Match} still identifies the current snapshot. Operations cannot see
+ * HTTP headers, so {@link ProdGuardEndpointFilter} hands the request header in and
+ * sets the {@code ETag} response header. A write schedules a re-run of every check,
+ * coalesced with any re-run that has not started yet.
+ */
+@WebEndpoint(id = "prodguard")
+public class ProdGuardEndpoint {
+
+    static final int STATUS_NOT_MODIFIED = 304;
+    static final int STATUS_ACCEPTED = 202;
+    static final int STATUS_CONFLICT = 409;
+
+    private final ProdGuardRunner runner;
+    private final SeverityResolver severityResolver;
+    private volatile ResultsSnapshot snapshot;
+
+    public ProdGuardEndpoint(ProdGuardRunner runner, SeverityResolver severityResolver) {
+        this.runner = runner;
+        this.severityResolver = severityResolver;
+    }
+
+    @ReadOperation(produces = MediaType.APPLICATION_JSON_VALUE)
+    public WebEndpointResponse<byte[]> results() {
+        return results(null);
+    }
+
+    /**
+     * The current results, or an empty 304 when {@code ifNoneMatch} (the raw
+     * {@code If-None-Match} header, {@code null} when absent) matches their entity tag.
+     */
+    public WebEndpointResponse<byte[]> results(String ifNoneMatch) {
+        ResultsSnapshot current = snapshot();
+        if (matches(ifNoneMatch, current.etag())) {
+            return new WebEndpointResponse<>(STATUS_NOT_MODIFIED);
+        }
+        return new WebEndpointResponse<>(current.json(), WebEndpointResponse.STATUS_OK, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Entity tag of the current results, quoted as sent in the {@code ETag} header.
+     */
+    public String etag() {
+        return snapshot().etag();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Void> rerun() {
+        return new WebEndpointResponse<>(runner.rerun() ? STATUS_ACCEPTED : STATUS_CONFLICT);
+    }
+
+    private ResultsSnapshot snapshot() {
+        var latest = runner.latestExecutions();
+        ResultsSnapshot current = snapshot;
+        if (current == null || !current.isSnapshotOf(latest)) {
+            // Concurrent rebuilds of the same results are identical; the last one wins
+            current = ResultsSnapshot.of(latest, severityResolver);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    // Weak comparison, as If-None-Match requires: W/ prefixes are ignored
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*") || weak(tag).equals(weak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String weak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
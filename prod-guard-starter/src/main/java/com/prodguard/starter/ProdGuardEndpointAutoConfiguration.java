@@ -0,0 +1,46 @@
+package com.prodguard.starter;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.EndpointId;
+import org.springframework.boot.actuate.endpoint.web.PathMappedEndpoints;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers the {@code prodguard} actuator endpoint in servlet web applications with
+ * Actuator on the classpath. Like any endpoint it must be exposed, e.g. with
+ * {@code management.endpoints.web.exposure.include=prodguard}.
+ * <p>
+ * The filter adding ETag support is registered on the endpoint's path in the main
+ * server; on a separate management port reads are answered unconditionally.
+ */
+@AutoConfiguration(
+    after = ProdGuardBaseAutoConfiguration.class,
+    afterName = "org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointAutoConfiguration"
+)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProdGuardEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(ProdGuardRunner.class)
+    @ConditionalOnAvailableEndpoint(endpoint = ProdGuardEndpoint.class)
+    public ProdGuardEndpoint prodGuardEndpoint(ProdGuardRunner runner, SeverityResolver severityResolver) {
+        return new ProdGuardEndpoint(runner, severityResolver);
+    }
+
+    @Bean
+    @ConditionalOnBean({ProdGuardEndpoint.class, PathMappedEndpoints.class})
+    public FilterRegistrationBean<ProdGuardEndpointFilter> prodGuardEndpointFilter(
+            ProdGuardEndpoint endpoint, PathMappedEndpoints endpoints) {
+        FilterRegistrationBean<ProdGuardEndpointFilter> registration =
+            new FilterRegistrationBean<>(new ProdGuardEndpointFilter(endpoint));
+        registration.setName("prodGuardEndpointFilter");
+        registration.addUrlPatterns(endpoints.getPath(EndpointId.of("prodguard")));
+        return registration;
+    }
+}
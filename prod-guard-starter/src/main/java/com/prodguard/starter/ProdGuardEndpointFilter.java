@@ -0,0 +1,46 @@
+package com.prodguard.starter;
+
+import java.io.IOException;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Carries the HTTP validators of {@code GET /actuator/prodguard}, which endpoint
+ * operations cannot access: passes {@code If-None-Match} to
+ * {@link ProdGuardEndpoint#results(String)}, answers its 304 directly and adds the
+ * {@code ETag} header to every read.
+ * <p>
+ * The tag is taken before the operation serializes the body, so a run recording results
+ * in between yields an older tag, which only costs the client one more full response.
+ */
+public class ProdGuardEndpointFilter implements Filter {
+
+    private final ProdGuardEndpoint endpoint;
+
+    public ProdGuardEndpointFilter(ProdGuardEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
+            throws IOException, ServletException {
+        if (req instanceof HttpServletRequest request && res instanceof HttpServletResponse response
+                && "GET".equals(request.getMethod())) {
+            response.setHeader(HttpHeaders.ETAG, endpoint.etag());
+            String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+            if (endpoint.results(ifNoneMatch).getStatus() == ProdGuardEndpoint.STATUS_NOT_MODIFIED) {
+                response.setStatus(ProdGuardEndpoint.STATUS_NOT_MODIFIED);
+                return;
+            }
+        }
+        chain.doFilter(req, res);
+    }
+}
@@ -0,0 +1,28 @@
+package com.prodguard.starter;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Publishes guard metrics when Micrometer is on the classpath and a {@link MeterRegistry}
+ * bean exists (e.g. Actuator is present).
+ */
+@AutoConfiguration(
+    after = ProdGuardBaseAutoConfiguration.class,
+    afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class ProdGuardMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    public MicrometerRunListener prodGuardMetricsRunListener(
+            MeterRegistry meterRegistry,
+            SeverityResolver severityResolver) {
+        return new MicrometerRunListener(meterRegistry, severityResolver);
+    }
+}
@@ -1,51 +1,56 @@
-package com.prodguard.starter;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.boot.autoconfigure.AutoConfiguration;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Import;
-
-import com.prodguard.checks.premium.security.EffectiveCookieFlagsCheck;
-import com.prodguard.checks.premium.security.EffectiveCrossOriginOpenerPolicyCheck;
-import com.prodguard.checks.premium.security.EffectiveCspCheck;
-import com.prodguard.checks.premium.security.EffectiveHstsCheck;
-import com.prodguard.checks.premium.security.EffectiveHttpsCheck;
-import com.prodguard.checks.premium.security.EffectivePermissionsPolicyCheck;
-import com.prodguard.checks.premium.security.EffectiveReferrerPolicyCheck;
-import com.prodguard.checks.premium.security.EffectiveSecurityHeadersCheck;
-import com.prodguard.checks.premium.security.EffectiveXFrameOptionsCheck;
-import com.prodguard.core.ProdCheck;
-
-import jakarta.annotation.PostConstruct;
-
-@AutoConfiguration
-@Import(ProdGuardFreeAutoConfiguration.class)
-@ConditionalOnProperty(
-    prefix = "prodguard.premium",
-    name = "enabled",
-    havingValue = "true",
-    matchIfMissing = false
-)
-public class ProdGuardPremiumAutoConfiguration {
-
-	private static final Logger log = LoggerFactory.getLogger(ProdGuardPremiumAutoConfiguration.class);
-	
-    @Bean ProdCheck effectiveHttpsCheck() { return new EffectiveHttpsCheck(); }
-    @Bean ProdCheck effectiveHstsCheck() { return new EffectiveHstsCheck(); }
-    @Bean ProdCheck effectiveCspCheck() { return new EffectiveCspCheck(); }
-    @Bean ProdCheck effectiveSecurityHeadersCheck() { return new EffectiveSecurityHeadersCheck(); }
-    @Bean ProdCheck effectiveCookieFlagsCheck() { return new EffectiveCookieFlagsCheck(); }
-    @Bean ProdCheck effectiveXFrameOptionsCheck() { return new EffectiveXFrameOptionsCheck(); }
-    @Bean ProdCheck effectiveReferrerPolicyCheck() { return new EffectiveReferrerPolicyCheck(); }
-    @Bean ProdCheck effectivePermissionsPolicyCheck() { return new EffectivePermissionsPolicyCheck(); }
-    @Bean ProdCheck effectiveCrossOriginOpenerPolicyCheck() {
-        return new EffectiveCrossOriginOpenerPolicyCheck();
-    }
-    
-    @PostConstruct
-    void premiumEnabled() {
-        log.info("[prod-guard] Premium security checks enabled");
-    }
-}
+package com.prodguard.starter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import com.prodguard.checks.premium.security.PremiumSecurityChecks;
+import com.prodguard.checks.premium.security.ProbeSession;
+import com.prodguard.core.ProdCheck;
+
+import jakarta.annotation.PostConstruct;
+
+@AutoConfiguration
+@Import(ProdGuardFreeAutoConfiguration.class)
+@ConditionalOnProperty(
+    prefix = "prodguard.premium",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false
+)
+public class ProdGuardPremiumAutoConfiguration {
+
+	private static final Logger log = LoggerFactory.getLogger(ProdGuardPremiumAutoConfiguration.class);
+	
+    // One HTTP client and one response per distinct request, shared by every runtime check
+    @Bean ProbeSession prodGuardProbeSession() { return new ProbeSession(); }
+    @Bean ProdGuardRunListener probeSessionRunListener(ProbeSession probeSession) {
+        return new ProbeSessionRunListener(probeSession);
+    }
+
+    @Bean ProdCheck effectiveHttpsCheck(ProbeSession probes) { return PremiumSecurityChecks.https(probes); }
+    @Bean ProdCheck effectiveHstsCheck(ProbeSession probes) { return PremiumSecurityChecks.hsts(probes); }
+    @Bean ProdCheck effectiveCspCheck(ProbeSession probes) { return PremiumSecurityChecks.csp(probes); }
+    @Bean ProdCheck effectiveSecurityHeadersCheck(ProbeSession probes) { return PremiumSecurityChecks.securityHeaders(probes); }
+    @Bean ProdCheck effectiveCookieFlagsCheck(ProbeSession probes) { return PremiumSecurityChecks.cookieFlags(probes); }
+    @Bean ProdCheck effectiveXFrameOptionsCheck(ProbeSession probes) { return PremiumSecurityChecks.xFrameOptions(probes); }
+    @Bean ProdCheck effectiveReferrerPolicyCheck(ProbeSession probes) { return PremiumSecurityChecks.referrerPolicy(probes); }
+    @Bean ProdCheck effectivePermissionsPolicyCheck(ProbeSession probes) { return PremiumSecurityChecks.permissionsPolicy(probes); }
+    @Bean ProdCheck effectiveCrossOriginOpenerPolicyCheck(ProbeSession probes) {
+        return PremiumSecurityChecks.crossOriginOpenerPolicy(probes);
+    }
+    @Bean ProdCheck effectiveRouteHeadersCheck(ProbeSession probes, ProdGuardProperties properties) {
+        return PremiumSecurityChecks.routeHeaders(probes, properties.getCrawl().limits());
+    }
+    @Bean ProdCheck effectiveServingPathCheck(ProbeSession probes, ProdGuardProperties properties) {
+        return PremiumSecurityChecks.servingPath(probes, properties.getProbe().settings());
+    }
+    
+    @PostConstruct
+    void premiumEnabled() {
+        log.info("[prod-guard] Premium security checks enabled");
+    }
+}
@@ -1,35 +1,402 @@
-package com.prodguard.starter;
-
-import com.prodguard.core.EffectiveSeverity;
-import org.springframework.boot.context.properties.ConfigurationProperties;
-
-import java.util.HashMap;
-import java.util.Map;
-
-@ConfigurationProperties(prefix = "prodguard")
-public class ProdGuardProperties {
-
-	private boolean reportOnly = false;
-	
-    public boolean isReportOnly() {
-        return reportOnly;
-    }
-
-    public void setReportOnly(boolean reportOnly) {
-        this.reportOnly = reportOnly;
-    }	
-	
-    /**
-     * Key: check code (e.g. PG-005)
-     * Value: severity override
-     */
-    private Map<String, EffectiveSeverity> severities = new HashMap<>();
-
-    public Map<String, EffectiveSeverity> getSeverities() {
-        return severities;
-    }
-
-    public void setSeverities(Map<String, EffectiveSeverity> severities) {
-        this.severities = severities;
-    }
-}
+package com.prodguard.starter;
+
+import com.prodguard.checks.premium.security.EndpointCrawler;
+import com.prodguard.checks.premium.security.ProbeTarget;
+import com.prodguard.core.EffectiveSeverity;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "prodguard")
+public class ProdGuardProperties {
+
+	private boolean reportOnly = false;
+	
+    public boolean isReportOnly() {
+        return reportOnly;
+    }
+
+    public void setReportOnly(boolean reportOnly) {
+        this.reportOnly = reportOnly;
+    }	
+	
+    /**
+     * Key: check code (e.g. PG-005)
+     * Value: severity override
+     */
+    private Map<String, EffectiveSeverity> severities = new HashMap<>();
+
+    public Map<String, EffectiveSeverity> getSeverities() {
+        return severities;
+    }
+
+    public void setSeverities(Map<String, EffectiveSeverity> severities) {
+        this.severities = severities;
+    }
+
+    /**
+     * Wall-clock budget for the whole guard run (e.g. 2s). Checks still running when it
+     * is exhausted are cancelled and reported as TIMED_OUT. Unbounded when not set.
+     */
+    private Duration budget;
+
+    /**
+     * Default deadline applied to each individual check. Unbounded when not set.
+     */
+    private Duration checkTimeout;
+
+    /**
+     * Key: check code (e.g. PG-203)
+     * Value: deadline overriding check-timeout for that check
+     */
+    private Map<String, Duration> checkTimeouts = new HashMap<>();
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    public void setBudget(Duration budget) {
+        this.budget = budget;
+    }
+
+    public Duration getCheckTimeout() {
+        return checkTimeout;
+    }
+
+    public void setCheckTimeout(Duration checkTimeout) {
+        this.checkTimeout = checkTimeout;
+    }
+
+    public Map<String, Duration> getCheckTimeouts() {
+        return checkTimeouts;
+    }
+
+    public void setCheckTimeouts(Map<String, Duration> checkTimeouts) {
+        this.checkTimeouts = checkTimeouts;
+    }
+
+    /**
+     * Abort the run on the first blocking ERROR: checks still running are cancelled and
+     * later stages are skipped, so a startup that is going to fail fails right away.
+     */
+    private boolean failFast = false;
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * BLOCKING runs every check on the startup thread. POST_READINESS defers RUNTIME
+     * and NETWORK cost checks until the application is ready and reports their blocking issues through
+     * the readiness state instead of failing startup.
+     */
+    private StartupMode startupMode = StartupMode.BLOCKING;
+
+    public StartupMode getStartupMode() {
+        return startupMode;
+    }
+
+    public void setStartupMode(StartupMode startupMode) {
+        this.startupMode = startupMode;
+    }
+
+    private final Execution execution = new Execution();
+
+    public Execution getExecution() {
+        return execution;
+    }
+
+    public static class Execution {
+
+        /**
+         * How checks are run: SEQUENTIAL, FIXED_POOL or VIRTUAL_THREADS.
+         */
+        private ExecutionMode mode = ExecutionMode.SEQUENTIAL;
+
+        /**
+         * Number of platform threads used by the FIXED_POOL mode.
+         */
+        private int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        public ExecutionMode getMode() {
+            return mode;
+        }
+
+        public void setMode(ExecutionMode mode) {
+            this.mode = mode;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+    }
+
+    private final Cache cache = new Cache();
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public static class Cache {
+
+        /**
+         * Reuse the results of PROPERTY and BEAN cost checks across restarts while the
+         * configuration fingerprint is unchanged.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Directory holding the cache files, one per application: named after
+         * {@code spring.application.name} and a hash of the working directory, so
+         * applications on the same host do not overwrite each other's entry.
+         */
+        private String directory = System.getProperty("java.io.tmpdir") + "/prod-guard";
+
+        /**
+         * Properties left out of the fingerprint because they differ between otherwise
+         * identical instances.
+         */
+        private Set<String> ignoredKeys = new LinkedHashSet<>(
+                List.of("PID", "HOSTNAME", "local.server.port", "local.management.port"));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public Set<String> getIgnoredKeys() {
+            return ignoredKeys;
+        }
+
+        public void setIgnoredKeys(Set<String> ignoredKeys) {
+            this.ignoredKeys = ignoredKeys;
+        }
+    }
+
+    private final Revalidation revalidation = new Revalidation();
+
+    public Revalidation getRevalidation() {
+        return revalidation;
+    }
+
+    public static class Revalidation {
+
+        /**
+         * Keep re-running checks once the application is ready, each one whenever its
+         * last result is older than its TTL.
+         */
+        private boolean enabled = false;
+
+        /**
+         * TTL of checks without an entry in ttls. Checks without a TTL only run at startup.
+         */
+        private Duration ttl;
+
+        /**
+         * Key: check code (e.g. PG-203)
+         * Value: TTL overriding ttl for that check
+         */
+        private Map<String, Duration> ttls = new HashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Map<String, Duration> getTtls() {
+            return ttls;
+        }
+
+        public void setTtls(Map<String, Duration> ttls) {
+            this.ttls = ttls;
+        }
+    }
+
+    private final Report report = new Report();
+
+    public Report getReport() {
+        return report;
+    }
+
+    public static class Report {
+
+        /**
+         * File each run appends one JSON object per executed check to.
+         */
+        private String jsonLines;
+
+        /**
+         * File replaced with a SARIF 2.1.0 log of each run.
+         */
+        private String sarif;
+
+        public String getJsonLines() {
+            return jsonLines;
+        }
+
+        public void setJsonLines(String jsonLines) {
+            this.jsonLines = jsonLines;
+        }
+
+        public String getSarif() {
+            return sarif;
+        }
+
+        public void setSarif(String sarif) {
+            this.sarif = sarif;
+        }
+    }
+
+    private final Crawl crawl = new Crawl();
+
+    public Crawl getCrawl() {
+        return crawl;
+    }
+
+    /**
+     * Limits of the endpoint crawl run by the premium route headers check (PG-210),
+     * passed to it as {@link #limits()} when the check is created; changes take effect on
+     * restart. Each setter rejects a value the crawler would not accept, so a bad setting
+     * fails the binding of its own property.
+     */
+    public static class Crawl {
+
+        /**
+         * Maximum number of routes probed per run.
+         */
+        private int maxRequests = EndpointCrawler.Limits.DEFAULTS.maxRequests();
+
+        /**
+         * Maximum number of probes in flight at once.
+         */
+        private int concurrency = EndpointCrawler.Limits.DEFAULTS.concurrency();
+
+        /**
+         * No probe is started after this long; routes not reached are reported as not probed.
+         */
+        private Duration timeout = EndpointCrawler.Limits.DEFAULTS.timeout();
+
+        public int getMaxRequests() {
+            return maxRequests;
+        }
+
+        public void setMaxRequests(int maxRequests) {
+            new EndpointCrawler.Limits(maxRequests, concurrency, timeout);
+            this.maxRequests = maxRequests;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            new EndpointCrawler.Limits(maxRequests, concurrency, timeout);
+            this.concurrency = concurrency;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            new EndpointCrawler.Limits(maxRequests, concurrency, timeout);
+            this.timeout = timeout;
+        }
+
+        public EndpointCrawler.Limits limits() {
+            return new EndpointCrawler.Limits(maxRequests, concurrency, timeout);
+        }
+    }
+
+    private final Probe probe = new Probe();
+
+    public Probe getProbe() {
+        return probe;
+    }
+
+    /**
+     * Additional targets compared by the premium serving path check (PG-211), passed to it
+     * as {@link #settings()} when the check is created; changes take effect on restart.
+     */
+    public static class Probe {
+
+        /**
+         * Base URL clients use to reach the application (ingress, load balancer).
+         */
+        private String publicUrl;
+
+        /**
+         * Base URLs of other instances of the application.
+         */
+        private List<String> peers = new ArrayList<>();
+
+        /**
+         * Also probe the management server when it runs on its own port.
+         */
+        private boolean management = ProbeTarget.Settings.DEFAULTS.management();
+
+        public String getPublicUrl() {
+            return publicUrl;
+        }
+
+        public void setPublicUrl(String publicUrl) {
+            this.publicUrl = publicUrl;
+        }
+
+        public List<String> getPeers() {
+            return peers;
+        }
+
+        public void setPeers(List<String> peers) {
+            this.peers = peers;
+        }
+
+        public boolean isManagement() {
+            return management;
+        }
+
+        public void setManagement(boolean management) {
+            this.management = management;
+        }
+
+        public ProbeTarget.Settings settings() {
+            return new ProbeTarget.Settings(publicUrl, peers, management);
+        }
+    }
+}
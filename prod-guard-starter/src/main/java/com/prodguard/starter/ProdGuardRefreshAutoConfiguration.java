@@ -0,0 +1,21 @@
+package com.prodguard.starter;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Re-validates affected checks on configuration refresh when Spring Cloud Context is on
+ * the classpath. Without it, call {@link ProdGuardRunner#revalidate} directly.
+ */
+@AutoConfiguration(after = ProdGuardBaseAutoConfiguration.class)
+@ConditionalOnClass(name = "org.springframework.cloud.context.environment.EnvironmentChangeEvent")
+public class ProdGuardRefreshAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(ProdGuardRunner.class)
+    public EnvironmentChangeRevalidator prodGuardEnvironmentChangeRevalidator(ProdGuardRunner runner) {
+        return new EnvironmentChangeRevalidator(runner);
+    }
+}
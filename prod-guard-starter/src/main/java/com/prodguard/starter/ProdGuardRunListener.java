@@ -0,0 +1,39 @@
+package com.prodguard.starter;
+
+import java.util.List;
+
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Callback notified around every guard run. Register implementations as beans.
+ */
+public interface ProdGuardRunListener {
+
+    /**
+     * Called once the plan is known and before any check runs.
+     */
+    default void runStarted(CheckPlan plan, ProdGuardContext ctx) {
+    }
+
+    /**
+     * Called on the thread running the guard before each stage, with the checks it is about
+     * to run: checks pruned by a failed prerequisite or served from the cache are left out,
+     * and stages skipped by fail-fast are never announced.
+     */
+    default void stageStarted(List<ProdCheck> checks, ProdGuardContext ctx) {
+    }
+
+    /**
+     * Called on the thread running the guard as soon as a check's execution is known,
+     * before the run finishes.
+     */
+    default void checkCompleted(CheckExecution execution) {
+    }
+
+    /**
+     * Called after the engine returned, whether or not the run found blocking issues.
+     */
+    default void runFinished(List<CheckExecution> executions) {
+    }
+}
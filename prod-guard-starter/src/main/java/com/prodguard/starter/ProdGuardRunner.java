@@ -1,35 +1,124 @@
 package com.prodguard.starter;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
 
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
 import com.prodguard.core.EffectiveSeverity;
 import com.prodguard.core.ProdCheck;
 import com.prodguard.core.ProdGuardContext;
+import com.prodguard.spring.ConfigurationFingerprint;
 import com.prodguard.spring.SpringProdGuardContext;
 
-public class ProdGuardRunner implements ApplicationRunner {
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs the guard once the application has started. With {@link StartupMode#POST_READINESS}
+ * runtime and network checks are held back and run in the background once the application
+ * reports {@link ReadinessState#ACCEPTING_TRAFFIC}. Spring Boot publishes that state only after
+ * the {@code ApplicationReadyEvent} listeners return, so starting earlier would let it overwrite
+ * a {@link ReadinessState#REFUSING_TRAFFIC} published by a check that fails fast.
+ * <p>
+ * While running, the property keys each check reads are indexed so that
+ * {@link #revalidate(Collection)} can re-run only the checks a configuration change affects.
+ * With a {@link RevalidationSchedule}, checks are also re-run once the application is ready
+ * whenever their latest result is older than their TTL.
+ */
+public class ProdGuardRunner implements ApplicationRunner, ApplicationListener<AvailabilityChangeEvent<ReadinessState>> {
 
     private static final Logger log = LoggerFactory.getLogger(ProdGuardRunner.class);
 
     private final boolean reportOnly;
+    private final StartupMode startupMode;
+    private final AtomicReference<Runnable> afterReadiness = new AtomicReference<>();
+    private final PropertyKeyIndex keyIndex = new PropertyKeyIndex();
+    private final Set<String> blockingCodes = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rerunPending = new AtomicBoolean();
+    private volatile Map<String, RecordedExecution> latest = Map.of();
+    private volatile ScheduledExecutorService periodic;
+    private volatile Instant scheduledSince;
+    private volatile boolean active;
+    private boolean refusingTraffic;
     
     private final List<ProdCheck> checks;
     private final ApplicationContext applicationContext;
     private final SeverityResolver severityResolver;
+    private final CheckPlanner checkPlanner;
+    private final CheckScheduler scheduler;
+    private final RunCache runCache;
+    private final Set<String> cacheIgnoredKeys;
+    private final RevalidationSchedule revalidationSchedule;
+    private final List<ProdGuardRunListener> listeners;
 
 	public ProdGuardRunner(List<ProdCheck> checks, ApplicationContext applicationContext,
-			SeverityResolver severityResolver, ProdGuardProperties properties) {
+			SeverityResolver severityResolver, CheckPlanner checkPlanner,
+			CheckExecutionEngine executionEngine, List<ProdGuardRunListener> listeners,
+			ProdGuardProperties properties) {
         this.checks = checks;
         this.applicationContext = applicationContext;
         this.severityResolver = severityResolver;
+        this.checkPlanner = checkPlanner;
+        this.scheduler = new CheckScheduler(executionEngine, severityResolver, properties.isFailFast(), keyIndex);
+        this.listeners = listeners;
         this.reportOnly = properties.isReportOnly();
+        this.startupMode = properties.getStartupMode();
+        this.runCache = properties.getCache().isEnabled()
+                ? new RunCache(Path.of(properties.getCache().getDirectory(), RunCache.fileName(
+                    applicationContext.getEnvironment().getProperty("spring.application.name"),
+                    Path.of(System.getProperty("user.dir")))))
+                : null;
+        this.cacheIgnoredKeys = Set.copyOf(properties.getCache().getIgnoredKeys());
+        this.revalidationSchedule = RevalidationSchedule.from(properties);
+    }
+
+    /**
+     * The latest execution of every check that has run, by code. The returned map is an
+     * immutable snapshot, replaced by a new instance whenever a run records results.
+     */
+    public Map<String, RecordedExecution> latestExecutions() {
+        return latest;
+    }
+
+    /**
+     * The execution plan for the registered checks: every check in code order with the
+     * severity it resolves to. DISABLED entries are skipped at run time.
+     */
+    public CheckPlan plan() {
+        return checkPlanner.plan(checks);
     }
 
     @Override
@@ -52,17 +141,267 @@ public class ProdGuardRunner implements ApplicationRunner {
             return;
         }
 
-        var results = checks.stream()
-                .map(c -> c.check(ctx))
+        active = true;
+        CheckPlan plan = plan();
+        logPlan(plan);
+
+        if (startupMode == StartupMode.POST_READINESS) {
+            CheckPlan deferred = plan.filter(ProdGuardRunner::runsAfterReadiness);
+            plan = plan.filter(entry -> !runsAfterReadiness(entry));
+            if (!deferred.checksToRun().isEmpty()) {
+                afterReadiness.set(() -> runAfterStartup("post-readiness", deferred, ctx));
+                log.info("[prod-guard] {} runtime checks deferred until the application is ready",
+                        deferred.checksToRun().size());
+            }
+        }
+
+        if (runChecks(plan, ctx)) {
+            if (reportOnly) {
+                log.warn("[prod-guard] report-only mode enabled — application will continue to start");
+            } else {
+                throw new IllegalStateException(
+                    "prod-guard detected blocking issues"
+                );
+            }
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return;
+        }
+        reassertRefusal();
+        Runnable deferred = afterReadiness.getAndSet(null);
+        if (deferred != null) {
+            Thread.ofVirtual().name("prodguard-post-readiness").start(deferred);
+        }
+        if (active) {
+            startPeriodicRevalidation();
+        }
+    }
+
+    // Someone else marked the application ready while a blocking issue is still recorded
+    private synchronized void reassertRefusal() {
+        if (refusingTraffic && !blockingCodes.isEmpty()) {
+            log.error("[prod-guard] application marked ACCEPTING_TRAFFIC while blocking issues remain {} — reverting to REFUSING_TRAFFIC",
+                    new TreeSet<>(blockingCodes));
+            AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+        }
+    }
+
+    private synchronized void startPeriodicRevalidation() {
+        if (periodic != null) {
+            return;
+        }
+        Duration tick = revalidationSchedule.tick(plan().enabled().stream().map(PlannedCheck::code).toList());
+        if (tick == null) {
+            return;
+        }
+
+        scheduledSince = Instant.now();
+        periodic = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("prodguard-periodic").daemon().factory());
+        periodic.scheduleWithFixedDelay(this::revalidateExpired, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("[prod-guard] periodic re-validation enabled, looking for expired results every {}", tick);
+    }
+
+    @PreDestroy
+    public synchronized void stopPeriodicRevalidation() {
+        if (periodic != null) {
+            periodic.shutdownNow();
+            periodic = null;
+        }
+    }
+
+    // An exception escaping a scheduleWithFixedDelay task silently cancels every later run
+    private void revalidateExpired() {
+        try {
+            revalidateExpired(Instant.now());
+        } catch (RuntimeException e) {
+            log.error("[prod-guard] periodic re-validation failed, retrying on the next tick", e);
+        }
+    }
+
+    /**
+     * Re-runs, on the calling thread, the checks whose result is older than their TTL at
+     * {@code now}.
+     *
+     * @return codes of the checks that were re-run
+     */
+    Set<String> revalidateExpired(Instant now) {
+        CheckPlan plan = plan().filter(entry -> {
+            Duration ttl = revalidationSchedule.ttlFor(entry.code());
+            return entry.enabled() && ttl != null && isExpired(entry.code(), ttl, now);
+        });
+        Set<String> codes = plan.enabled().stream().map(PlannedCheck::code).collect(Collectors.toCollection(TreeSet::new));
+        if (!codes.isEmpty()) {
+            log.debug("[prod-guard] results expired: {}", codes);
+            runAfterStartup("periodic re-validation", plan, new SpringProdGuardContext(applicationContext));
+        }
+        return codes;
+    }
+
+    // Checks that have not completed yet (still deferred, aborted) count from the start of the schedule
+    private boolean isExpired(String code, Duration ttl, Instant now) {
+        RecordedExecution recorded = latest.get(code);
+        if (recorded != null) {
+            return recorded.isOlderThan(ttl, now);
+        }
+        Instant since = scheduledSince;
+        return since != null && !since.plus(ttl).isAfter(now);
+    }
+
+    /**
+     * Re-runs, in the background, the checks that read any of the given property keys,
+     * against a fresh view of the configuration. Configuration checks that have not
+     * been observed running yet (e.g. served from the run cache) are re-run as well.
+     * Does nothing unless the guard ran at startup.
+     *
+     * @return codes of the checks scheduled for re-validation
+     */
+    public Set<String> revalidate(Collection<String> changedKeys) {
+        if (!active || changedKeys.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> affected = keyIndex.affectedBy(changedKeys);
+        CheckPlan plan = plan().filter(entry -> entry.enabled()
+                && (affected.contains(entry.code())
+                    || RunCache.isCacheable(entry) && !keyIndex.isRecorded(entry.code())));
+        Set<String> codes = plan.entries().stream().map(PlannedCheck::code).collect(Collectors.toCollection(TreeSet::new));
+        if (codes.isEmpty()) {
+            log.debug("[prod-guard] configuration changed ({} keys), no check reads them", changedKeys.size());
+            return Set.of();
+        }
+
+        log.info("[prod-guard] configuration changed ({} keys): re-validating {}", changedKeys.size(), codes);
+        Thread.ofVirtual().name("prodguard-revalidation").start(() ->
+            runAfterStartup("re-validation", plan, new SpringProdGuardContext(applicationContext))
+        );
+        return codes;
+    }
+
+    /**
+     * Re-runs every enabled check in the background against a fresh view of the
+     * configuration. Requests arriving before the pending re-run starts are coalesced
+     * into it. Does nothing unless the guard ran at startup.
+     *
+     * @return whether a re-run is pending
+     */
+    public boolean rerun() {
+        if (!active) {
+            return false;
+        }
+        if (rerunPending.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("prodguard-rerun").start(() -> {
+                rerunPending.set(false);
+                runAfterStartup("re-run", plan(), new SpringProdGuardContext(applicationContext));
+            });
+        }
+        return true;
+    }
+
+    private void runAfterStartup(String phase, CheckPlan plan, ProdGuardContext ctx) {
+        try {
+            runChecks(plan, ctx);
+        } catch (RuntimeException e) {
+            // A check blowing up would have failed a blocking startup; treat it the same way
+            log.error("[prod-guard] {} checks failed", phase, e);
+            plan.enabled().forEach(entry -> blockingCodes.add(entry.code()));
+        }
+        updateReadiness();
+    }
+
+    /**
+     * After startup, blocking issues are reported through the readiness state: the
+     * application refuses traffic while any check has a blocking issue, and accepts it
+     * again once re-validation clears the last one.
+     */
+    private synchronized void updateReadiness() {
+        boolean blocking = !blockingCodes.isEmpty();
+        if (blocking == refusingTraffic) {
+            return;
+        }
+        if (blocking && reportOnly) {
+            log.warn("[prod-guard] report-only mode enabled — application keeps accepting traffic");
+            return;
+        }
+
+        refusingTraffic = blocking;
+        if (blocking) {
+            log.error("[prod-guard] blocking issues detected after startup {} — marking application REFUSING_TRAFFIC",
+                    new TreeSet<>(blockingCodes));
+            AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+        } else {
+            log.info("[prod-guard] blocking issues resolved — marking application ACCEPTING_TRAFFIC");
+            AvailabilityChangeEvent.publish(applicationContext, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    /**
+     * Runs the enabled checks of a plan and reports their results. Runs never overlap,
+     * whether triggered at startup, after readiness or by re-validation, and a check
+     * already claimed by a pending run is left out rather than run twice in a row.
+     *
+     * @return whether any result resolved to a blocking ERROR
+     */
+    private boolean runChecks(CheckPlan requested, ProdGuardContext ctx) {
+        Set<String> claimed = new HashSet<>();
+        requested.enabled().forEach(entry -> {
+            if (inFlight.add(entry.code())) {
+                claimed.add(entry.code());
+            }
+        });
+        if (claimed.size() < requested.enabled().size()) {
+            log.debug("[prod-guard] already in flight, not run again: {}",
+                    requested.enabled().stream().map(PlannedCheck::code).filter(c -> !claimed.contains(c)).toList());
+        }
+        if (claimed.isEmpty()) {
+            return false;
+        }
+
+        try {
+            return runClaimed(requested.filter(entry -> !entry.enabled() || claimed.contains(entry.code())), ctx);
+        } finally {
+            inFlight.removeAll(claimed);
+        }
+    }
+
+    private boolean runClaimed(CheckPlan plan, ProdGuardContext ctx) {
+        List<CheckExecution> executions = List.of();
+        runLock.lock();
+        try {
+            listeners.forEach(l -> l.runStarted(plan, ctx));
+            long started = System.nanoTime();
+            try {
+                executions = execute(plan, ctx);
+                log.info("[prod-guard] {}", CheckTimingReport.render(executions, System.nanoTime() - started));
+            } finally {
+                List<CheckExecution> finished = executions;
+                listeners.forEach(l -> l.runFinished(finished));
+            }
+        } finally {
+            runLock.unlock();
+        }
+
+        record(executions);
+
+        plan.enabled().forEach(entry -> blockingCodes.remove(entry.code()));
+        executions.stream()
+            .filter(e -> e.result().map(severityResolver::resolve).orElse(null) == EffectiveSeverity.ERROR)
+            .forEach(e -> blockingCodes.add(e.code()));
+
+        var results = executions.stream()
+                .map(CheckExecution::result)
                 .flatMap(Optional::stream)
                 .toList();
 
         if (results.isEmpty()) {
             log.info("[prod-guard] no issues detected");
-            return;
+            return false;
         }
 
-        
         results.forEach(result -> {
             var effective = severityResolver.resolve(result);
 
@@ -77,19 +416,86 @@ public class ProdGuardRunner implements ApplicationRunner {
                     result.remediation()
             );
         });
-        
-        boolean hasBlockingError = results.stream()
+
+        return results.stream()
                 .map(severityResolver::resolve)
                 .anyMatch(s -> s == EffectiveSeverity.ERROR);
+    }
 
-        if (hasBlockingError) {
-            if (reportOnly) {
-                log.warn("[prod-guard] report-only mode enabled — application will continue to start");
-            } else {
-                throw new IllegalStateException(
-                    "prod-guard detected blocking issues"
-                );
-            }
-        }        
+    private synchronized void record(List<CheckExecution> executions) {
+        Instant completedAt = Instant.now();
+        Map<String, RecordedExecution> updated = new TreeMap<>(latest);
+        executions.forEach(e -> updated.put(e.code(), new RecordedExecution(e, completedAt)));
+        latest = Collections.unmodifiableMap(updated);
+    }
+
+    private List<CheckExecution> execute(CheckPlan plan, ProdGuardContext ctx) {
+        Map<String, CheckDescriptor> cacheable = plan.enabled().stream()
+                .filter(RunCache::isCacheable)
+                .collect(Collectors.toMap(PlannedCheck::code, PlannedCheck::descriptor));
+        if (runCache == null || cacheable.isEmpty() || !(ctx instanceof SpringProdGuardContext spring)) {
+            return scheduler.execute(plan, ctx, Map.of(), checks -> stageStarted(checks, ctx), this::checkCompleted);
+        }
+
+        byte[] fingerprint = ConfigurationFingerprint.of(spring, cacheIgnoredKeys, catalog(plan));
+        Map<String, Optional<CheckResult>> cached = runCache.load(fingerprint, cacheable);
+        if (!cached.isEmpty()) {
+            log.info("[prod-guard] {} configuration checks served from the run cache", cached.size());
+        }
+
+        List<CheckExecution> executions = scheduler.execute(plan, ctx, cached, checks -> stageStarted(checks, ctx), this::checkCompleted);
+
+        // Persist once something new was learned; timed-out and skipped results say nothing about the configuration
+        Map<String, Optional<CheckResult>> results = new LinkedHashMap<>();
+        executions.stream()
+            .filter(e -> cacheable.containsKey(e.code()))
+            .filter(e -> e.result().map(r -> r.outcome() == CheckOutcome.FAILED).orElse(true))
+            .forEach(e -> results.put(e.code(), e.result()));
+        if (!cached.keySet().containsAll(results.keySet())) {
+            runCache.store(fingerprint, results);
+        }
+        return executions;
+    }
+
+    private void stageStarted(List<ProdCheck> checks, ProdGuardContext ctx) {
+        listeners.forEach(l -> l.stageStarted(checks, ctx));
+    }
+
+    private void checkCompleted(CheckExecution execution) {
+        listeners.forEach(l -> l.checkCompleted(execution));
+    }
+
+    private static List<String> catalog(CheckPlan plan) {
+        List<String> catalog = new ArrayList<>();
+        catalog.add("prod-guard " + BuildInfo.version());
+        plan.entries().forEach(entry -> catalog.add(
+            entry.code() + " " + entry.check().getClass().getName() + " " + BuildInfo.classDigest(entry.check().getClass())
+                + " " + entry.severity() + " " + entry.cost()
+        ));
+        return catalog;
+    }
+
+    // Measurements and network probes need a serving application; the rest only reads configuration
+    private static boolean runsAfterReadiness(PlannedCheck entry) {
+        return entry.cost().compareTo(CheckCost.RUNTIME) >= 0;
+    }
+
+    private static void logPlan(CheckPlan plan) {
+        List<PlannedCheck> disabled = plan.disabled();
+        log.info("[prod-guard] plan: {} checks, {} enabled, {} disabled{}",
+                plan.entries().size(),
+                plan.entries().size() - disabled.size(),
+                disabled.size(),
+                disabled.isEmpty()
+                    ? ""
+                    : " " + disabled.stream().map(PlannedCheck::code).toList()
+        );
+
+        if (log.isDebugEnabled()) {
+            plan.entries().forEach(entry ->
+                log.debug("[prod-guard]   stage {} {} {} - {}",
+                        entry.stage(), entry.severity(), entry.code(), entry.descriptor().name())
+            );
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.prodguard.starter;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index from property keys to the codes of the checks that read them, built from what
+ * checks actually read while running.
+ * <p>
+ * Keys are compared in a relaxed form (case, dots, dashes and underscores ignored) so a
+ * change reported as {@code SPRING_JPA_SHOW_SQL} matches a check reading
+ * {@code spring.jpa.show-sql}. List indexes are ignored too, so a change to
+ * {@code management.endpoints.web.exposure.include[1]} matches a check reading
+ * {@code management.endpoints.web.exposure.include}.
+ * A false match only costs an extra re-run.
+ */
+class PropertyKeyIndex {
+
+    private final Map<String, Set<String>> keysByCode = new ConcurrentHashMap<>();
+
+    void record(String code, Set<String> keys) {
+        Set<String> relaxed = new HashSet<>();
+        keys.forEach(key -> relaxed.add(relax(key)));
+        keysByCode.put(code, Set.copyOf(relaxed));
+    }
+
+    boolean isRecorded(String code) {
+        return keysByCode.containsKey(code);
+    }
+
+    /**
+     * Codes of the checks that read any of the given keys.
+     */
+    Set<String> affectedBy(Collection<String> changedKeys) {
+        Set<String> changed = new HashSet<>();
+        changedKeys.forEach(key -> changed.add(relax(key)));
+
+        Set<String> affected = new HashSet<>();
+        keysByCode.forEach((code, keys) -> {
+            for (String key : keys) {
+                if (changed.contains(key)) {
+                    affected.add(code);
+                    return;
+                }
+            }
+        });
+        return affected;
+    }
+
+    private static String relax(String key) {
+        StringBuilder relaxed = new StringBuilder(key.length());
+        boolean inIndex = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '[' || c == ']') {
+                inIndex = c == '[';
+            } else if (!inIndex && c != '.' && c != '-' && c != '_') {
+                relaxed.append(c);
+            }
+        }
+        return relaxed.toString().toLowerCase(Locale.ROOT);
+    }
+}
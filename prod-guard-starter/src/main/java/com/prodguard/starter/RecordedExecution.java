@@ -0,0 +1,17 @@
+package com.prodguard.starter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * The latest execution of a check and when it completed.
+ */
+public record RecordedExecution(
+        CheckExecution execution,
+        Instant completedAt
+) {
+
+    public boolean isOlderThan(Duration ttl, Instant now) {
+        return !completedAt.plus(ttl).isAfter(now);
+    }
+}
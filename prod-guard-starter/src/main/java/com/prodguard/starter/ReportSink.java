@@ -0,0 +1,45 @@
+package com.prodguard.starter;
+
+import java.io.IOException;
+
+import com.prodguard.core.EffectiveSeverity;
+
+/**
+ * Destination for a structured report of each guard run. Register implementations as
+ * beans; the built-in ones write JSON Lines ({@link JsonLinesReportSink}) and SARIF
+ * ({@link SarifReportSink}).
+ * <p>
+ * Executions are handed over one by one as their checks complete, so a sink should
+ * write them out rather than collect them. Calls for one run come from a single thread
+ * and runs never overlap. A failing sink is logged, {@link #abort() aborted} and does not
+ * affect the run.
+ */
+public interface ReportSink {
+
+    /**
+     * Called before any check of the run completes.
+     */
+    default void begin(CheckPlan plan) throws IOException {
+    }
+
+    /**
+     * Called once per executed check.
+     *
+     * @param severity the effective severity of the check's result, {@code null} when it passed
+     */
+    void write(CheckExecution execution, EffectiveSeverity severity) throws IOException;
+
+    /**
+     * Called once the run finished, also when it failed.
+     */
+    default void end() throws IOException {
+    }
+
+    /**
+     * Called instead of {@link #end()} once the sink itself failed during the run, so it
+     * can discard the partial report rather than publish it. Ends the run by default.
+     */
+    default void abort() throws IOException {
+        end();
+    }
+}
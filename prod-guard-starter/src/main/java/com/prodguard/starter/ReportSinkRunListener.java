@@ -0,0 +1,81 @@
+package com.prodguard.starter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.prodguard.core.EffectiveSeverity;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Streams every guard run to the registered {@link ReportSink}s. A sink that fails is
+ * aborted and dropped for the rest of the run.
+ */
+public class ReportSinkRunListener implements ProdGuardRunListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportSinkRunListener.class);
+
+    private final List<ReportSink> sinks;
+    private final SeverityResolver severityResolver;
+    private final List<ReportSink> open = new ArrayList<>();
+
+    public ReportSinkRunListener(List<ReportSink> sinks, SeverityResolver severityResolver) {
+        this.sinks = List.copyOf(sinks);
+        this.severityResolver = severityResolver;
+    }
+
+    @Override
+    public void runStarted(CheckPlan plan, ProdGuardContext ctx) {
+        open.clear();
+        for (ReportSink sink : sinks) {
+            try {
+                sink.begin(plan);
+                open.add(sink);
+            } catch (IOException | RuntimeException e) {
+                log.warn("[prod-guard] report sink {} failed to start: {}", sink.getClass().getSimpleName(), e.toString());
+                abort(sink);
+            }
+        }
+    }
+
+    @Override
+    public void checkCompleted(CheckExecution execution) {
+        EffectiveSeverity severity = execution.result().map(severityResolver::resolve).orElse(null);
+        open.removeIf(sink -> {
+            try {
+                sink.write(execution, severity);
+                return false;
+            } catch (IOException | RuntimeException e) {
+                log.warn("[prod-guard] report sink {} failed, dropping it for this run: {}",
+                        sink.getClass().getSimpleName(), e.toString());
+                abort(sink);
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public void runFinished(List<CheckExecution> executions) {
+        open.forEach(ReportSinkRunListener::close);
+        open.clear();
+    }
+
+    private static void abort(ReportSink sink) {
+        try {
+            sink.abort();
+        } catch (IOException | RuntimeException e) {
+            log.warn("[prod-guard] report sink {} failed to abort: {}", sink.getClass().getSimpleName(), e.toString());
+        }
+    }
+
+    private static void close(ReportSink sink) {
+        try {
+            sink.end();
+        } catch (IOException | RuntimeException e) {
+            log.warn("[prod-guard] report sink {} failed to finish: {}", sink.getClass().getSimpleName(), e.toString());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.prodguard.starter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.EffectiveSeverity;
+
+/**
+ * The latest guard results serialized once to JSON, with the entity tag identifying
+ * that representation. Built from one {@link ProdGuardRunner#latestExecutions()} instance
+ * and reusable for as long as the runner hands out the same instance.
+ */
+final class ResultsSnapshot {
+
+    private final Map<String, RecordedExecution> source;
+    private final byte[] json;
+    private final String etag;
+
+    private ResultsSnapshot(Map<String, RecordedExecution> source, byte[] json, String etag) {
+        this.source = source;
+        this.json = json;
+        this.etag = etag;
+    }
+
+    static ResultsSnapshot of(Map<String, RecordedExecution> latest, SeverityResolver severityResolver) {
+        StringBuilder sb = new StringBuilder(256 + latest.size() * 256);
+        JsonWriter json = new JsonWriter(sb).beginObject().name("checks").beginArray();
+        latest.values().forEach(recorded -> write(json, recorded, severityResolver));
+        json.endArray().endObject();
+
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        return new ResultsSnapshot(latest, bytes, '"' + HexFormat.of().formatHex(sha256(bytes), 0, 16) + '"');
+    }
+
+    boolean isSnapshotOf(Map<String, RecordedExecution> latest) {
+        return source == latest;
+    }
+
+    byte[] json() {
+        return json;
+    }
+
+    String etag() {
+        return etag;
+    }
+
+    private static void write(JsonWriter json, RecordedExecution recorded, SeverityResolver severityResolver) {
+        CheckExecution execution = recorded.execution();
+        CheckResult result = execution.result().orElse(null);
+        EffectiveSeverity severity = result == null ? null : severityResolver.resolve(result);
+
+        json.beginObject()
+            .name("code").value(execution.code())
+            .name("name").value(execution.descriptor().name())
+            .name("status").value(result == null ? "PASSED" : result.outcome().name())
+            .name("severity").value(severity == null ? null : severity.name())
+            .name("message").value(result == null ? null : result.message())
+            .name("remediation").value(result == null ? null : result.remediation())
+            .name("completedAt").value(recorded.completedAt().toString());
+
+        CheckTiming timing = execution.timing();
+        if (timing.measured()) {
+            json.name("timing").beginObject().name("wallNanos").value(timing.wallNanos());
+            if (timing.hasCpuTime()) {
+                json.name("cpuNanos").value(timing.cpuNanos());
+            }
+            if (timing.hasAllocatedBytes()) {
+                json.name("allocatedBytes").value(timing.allocatedBytes());
+            }
+            json.endObject();
+        }
+        json.endObject();
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
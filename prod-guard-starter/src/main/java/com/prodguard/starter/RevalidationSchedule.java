@@ -0,0 +1,51 @@
+package com.prodguard.starter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * How often each check is re-run once the application is ready. A {@code null} TTL
+ * means the check only runs at startup.
+ */
+public record RevalidationSchedule(
+        Duration defaultTtl,
+        Map<String, Duration> ttls
+) {
+
+    public static final RevalidationSchedule NONE = new RevalidationSchedule(null, Map.of());
+
+    private static final Duration MIN_TICK = Duration.ofSeconds(1);
+
+    public RevalidationSchedule {
+        ttls = ttls == null ? Map.of() : Map.copyOf(ttls);
+    }
+
+    public static RevalidationSchedule from(ProdGuardProperties properties) {
+        ProdGuardProperties.Revalidation revalidation = properties.getRevalidation();
+        return revalidation.isEnabled()
+                ? new RevalidationSchedule(revalidation.getTtl(), revalidation.getTtls())
+                : NONE;
+    }
+
+    /**
+     * TTL of a check's result, or {@code null} when the check is not re-run.
+     */
+    public Duration ttlFor(String code) {
+        return ttls.getOrDefault(code, defaultTtl);
+    }
+
+    /**
+     * Interval at which to look for results past their TTL: the shortest TTL among the
+     * given checks, at least one second, or {@code null} when none of them is re-run.
+     */
+    public Duration tick(Collection<String> codes) {
+        return codes.stream()
+                .map(this::ttlFor)
+                .filter(Objects::nonNull)
+                .min(Duration::compareTo)
+                .map(ttl -> ttl.compareTo(MIN_TICK) < 0 ? MIN_TICK : ttl)
+                .orElse(null);
+    }
+}
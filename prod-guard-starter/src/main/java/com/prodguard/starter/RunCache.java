@@ -0,0 +1,178 @@
+package com.prodguard.starter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+
+/**
+ * On-disk cache of the results of configuration-only checks, keyed by a configuration
+ * fingerprint. A restart with the same fingerprint reuses the stored results instead of
+ * re-evaluating the same configuration; anything that fails to read is a cache miss.
+ * <p>
+ * Binary layout (big-endian): magic {@code PGRC}, format version, fingerprint length and
+ * bytes, entry count, then per entry: code, result flag and, when a result is present,
+ * message, remediation and outcome. Strings are length-prefixed UTF-8, {@code -1} for null.
+ * The file is read through a read-only memory mapping and replaced atomically on write.
+ */
+public class RunCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RunCache.class);
+
+    private static final int MAGIC = 0x50475243;
+    private static final short VERSION = 1;
+
+    private final Path file;
+
+    public RunCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Name of the cache file of one application, so applications sharing a cache directory
+     * keep their own entry: the application name (or {@code application} when unset)
+     * followed by a hash of the name and the working directory, which tells apart
+     * instances of the same application deployed in different places.
+     */
+    public static String fileName(String applicationName, Path workingDirectory) {
+        String name = applicationName == null || applicationName.isBlank() ? "application" : applicationName;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(workingDirectory.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+            String hash = HexFormat.of().formatHex(digest.digest(), 0, 8);
+            return "run-cache-" + name.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + hash + ".bin";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Only checks that read configuration (PROPERTY and BEAN cost) are deterministic for
+     * a given fingerprint; runtime measurements and probes always run.
+     */
+    public static boolean isCacheable(PlannedCheck entry) {
+        return entry.cost().compareTo(CheckCost.BEAN) <= 0;
+    }
+
+    /**
+     * Stored results for the given fingerprint, restricted to the given checks. Empty when
+     * the file is missing, unreadable or was written for another fingerprint.
+     */
+    public Map<String, Optional<CheckResult>> load(byte[] fingerprint, Map<String, CheckDescriptor> descriptors) {
+        if (!Files.isRegularFile(file)) {
+            return Map.of();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                return Map.of();
+            }
+            byte[] stored = new byte[buffer.getShort()];
+            buffer.get(stored);
+            if (!MessageDigest.isEqual(stored, fingerprint)) {
+                return Map.of();
+            }
+
+            Map<String, Optional<CheckResult>> results = new HashMap<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                String code = readString(buffer);
+                Optional<CheckResult> result = Optional.empty();
+                if (buffer.get() == 1) {
+                    String message = readString(buffer);
+                    String remediation = readString(buffer);
+                    CheckOutcome outcome = CheckOutcome.values()[buffer.get()];
+                    CheckDescriptor descriptor = descriptors.get(code);
+                    if (descriptor != null) {
+                        result = Optional.of(new CheckResult(descriptor, message, remediation, outcome));
+                    }
+                }
+                if (descriptors.containsKey(code)) {
+                    results.put(code, result);
+                }
+            }
+            return results;
+        } catch (IOException | RuntimeException e) {
+            log.debug("[prod-guard] ignoring unreadable run cache {}: {}", file, e.toString());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Replaces the cache with the given results. Failures are logged and otherwise ignored.
+     */
+    public void store(byte[] fingerprint, Map<String, Optional<CheckResult>> results) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + results.size() * 128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(fingerprint.length);
+            out.write(fingerprint);
+            out.writeInt(results.size());
+            for (Map.Entry<String, Optional<CheckResult>> entry : results.entrySet()) {
+                writeString(out, entry.getKey());
+                Optional<CheckResult> result = entry.getValue();
+                out.writeByte(result.isPresent() ? 1 : 0);
+                if (result.isPresent()) {
+                    writeString(out, result.get().message());
+                    writeString(out, result.get().remediation());
+                    out.writeByte(result.get().outcome().ordinal());
+                }
+            }
+            out.flush();
+
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, bytes.toByteArray());
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[prod-guard] could not write run cache {}: {}", file, e.toString());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,199 @@
+package com.prodguard.starter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.EffectiveSeverity;
+
+/**
+ * Writes each run as a SARIF 2.1.0 log: every planned check is a rule and every issue a
+ * result. The log is streamed as checks complete; with a file target it is written next
+ * to the file and moved into place once the run finishes, so readers never see half a log.
+ * <p>
+ * Runs that execute only some checks (deferred runtime checks, re-validation, periodic
+ * runs) are merged into the previous log: the issues of checks the run did not execute
+ * are carried over, so every log reflects the latest result of every check. A run whose
+ * sink is {@link #abort() aborted} leaves the previous log and the carried issues as they were.
+ */
+public class SarifReportSink implements ReportSink {
+
+    private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+    private final Path file;
+    private final Writer target;
+    // Carried across runs: one rule and at most one issue per check
+    private final Map<String, CheckDescriptor> rules = new TreeMap<>();
+    private final Map<String, Issue> issues = new TreeMap<>();
+    private final Set<String> executed = new HashSet<>();
+    private final Map<String, Issue> runIssues = new LinkedHashMap<>();
+    private Path partial;
+    private Writer out;
+    private JsonWriter json;
+
+    /**
+     * Replaces {@code file} with the log of each run, creating its directory when missing.
+     */
+    public SarifReportSink(Path file) {
+        this.file = file;
+        this.target = null;
+    }
+
+    /**
+     * Writes the log of each run to {@code out}, which is flushed but never closed.
+     */
+    public SarifReportSink(Writer out) {
+        this.file = null;
+        this.target = out;
+    }
+
+    @Override
+    public void begin(CheckPlan plan) throws IOException {
+        executed.clear();
+        runIssues.clear();
+        if (file != null) {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            partial = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            out = Files.newBufferedWriter(partial, StandardCharsets.UTF_8);
+        } else {
+            out = target;
+        }
+
+        Map<String, CheckDescriptor> runRules = new TreeMap<>(rules);
+        plan.entries().forEach(entry -> runRules.put(entry.code(), entry.descriptor()));
+
+        JsonWriter json = new JsonWriter(out).beginObject()
+            .name("$schema").value(SCHEMA)
+            .name("version").value("2.1.0")
+            .name("runs").beginArray().beginObject()
+            .name("tool").beginObject()
+            .name("driver").beginObject()
+            .name("name").value("prod-guard");
+        String version = BuildInfo.version();
+        if (version != null) {
+            json.name("version").value(version);
+        }
+        json.name("rules").beginArray();
+        for (CheckDescriptor descriptor : runRules.values()) {
+            json.beginObject()
+                .name("id").value(descriptor.code())
+                .name("name").value(descriptor.name())
+                .name("shortDescription").beginObject().name("text").value(descriptor.name()).endObject();
+            if (descriptor.hasLongDescription()) {
+                json.name("fullDescription").beginObject().name("text").value(descriptor.longDescription()).endObject();
+            }
+            json.endObject();
+        }
+        json.endArray().endObject().endObject()
+            .name("results").beginArray();
+        out.flush();
+        this.json = json;
+        rules.putAll(runRules);
+    }
+
+    @Override
+    public void write(CheckExecution execution, EffectiveSeverity severity) throws IOException {
+        executed.add(execution.code());
+        CheckResult result = execution.result().orElse(null);
+        if (result == null || severity == EffectiveSeverity.DISABLED) {
+            return;
+        }
+        Issue issue = new Issue(result, severity);
+        runIssues.put(execution.code(), issue);
+        write(issue);
+        out.flush();
+    }
+
+    @Override
+    public void end() throws IOException {
+        try {
+            if (json != null) {
+                // Latest known issues of the checks this run did not execute
+                for (Map.Entry<String, Issue> carried : issues.entrySet()) {
+                    if (!executed.contains(carried.getKey())) {
+                        write(carried.getValue());
+                    }
+                }
+                json.endArray().endObject().endArray().endObject();
+                out.flush();
+            }
+            if (partial != null && json != null) {
+                out.close();
+                Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            if (json != null) {
+                issues.keySet().removeAll(executed);
+                issues.putAll(runIssues);
+            }
+        } finally {
+            discard();
+        }
+    }
+
+    /**
+     * Drops the partial log of this run: the previous log stays in place and its issues
+     * keep being carried over.
+     */
+    @Override
+    public void abort() throws IOException {
+        discard();
+    }
+
+    private void discard() throws IOException {
+        try {
+            if (partial != null) {
+                if (out != null) {
+                    out.close();
+                }
+                Files.deleteIfExists(partial);
+            }
+        } finally {
+            partial = null;
+            out = null;
+            json = null;
+            executed.clear();
+            runIssues.clear();
+        }
+    }
+
+    private void write(Issue issue) {
+        CheckResult result = issue.result();
+        json.beginObject()
+            .name("ruleId").value(result.code());
+        // A skipped check was not evaluated: SARIF models that as a non-failing result kind
+        if (result.outcome() == CheckOutcome.SKIPPED) {
+            json.name("kind").value("notApplicable").name("level").value("none");
+        } else {
+            json.name("level").value(level(issue.severity()));
+        }
+        json.name("message").beginObject().name("text").value(result.message()).endObject()
+            .name("properties").beginObject()
+            .name("remediation").value(result.remediation())
+            .name("outcome").value(result.outcome().name())
+            .endObject()
+            .endObject();
+    }
+
+    private static String level(EffectiveSeverity severity) {
+        return switch (severity) {
+            case ERROR -> "error";
+            case WARN -> "warning";
+            case INFO, DISABLED -> "note";
+        };
+    }
+
+    private record Issue(CheckResult result, EffectiveSeverity severity) {
+    }
+}
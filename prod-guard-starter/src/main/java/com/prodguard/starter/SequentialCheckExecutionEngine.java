@@ -0,0 +1,91 @@
+package com.prodguard.starter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+
+/**
+ * Runs checks one after another.
+ * <p>
+ * Without limits checks run on the calling thread. When an {@link ExecutionBudget} is
+ * configured each check runs on its own virtual thread so the caller can stop waiting
+ * and cancel it once its deadline passes.
+ */
+public class SequentialCheckExecutionEngine extends AbstractCheckExecutionEngine {
+
+    public SequentialCheckExecutionEngine() {
+        this(ExecutionBudget.UNBOUNDED);
+    }
+
+    public SequentialCheckExecutionEngine(ExecutionBudget budget) {
+        super(budget);
+    }
+
+    @Override
+    public List<CheckExecution> execute(List<ProdCheck> checks, ProdGuardContext ctx, long runStartNanos,
+                                        Predicate<CheckExecution> abortWhen) {
+        List<CheckExecution> executions = new ArrayList<>(checks.size());
+
+        if (budget.isUnbounded()) {
+            for (ProdCheck check : checks) {
+                CheckExecution execution = measure(check, ctx);
+                executions.add(execution);
+                if (abortWhen.test(execution)) {
+                    break;
+                }
+            }
+            return executions;
+        }
+
+        long deadline = budget.deadlineFrom(runStartNanos);
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("prodguard-check-", 0).factory()
+        );
+
+        try {
+            for (ProdCheck check : checks) {
+                CheckDescriptor descriptor = check.descriptor();
+                long limit = remainingNanos(descriptor.code(), deadline);
+
+                if (limit <= 0) {
+                    // Budget already spent: report without starting the check
+                    executions.add(CheckExecution.timedOut(descriptor, budget.total()));
+                    continue;
+                }
+
+                Future<CheckExecution> future = executor.submit(() -> measure(check, ctx));
+                try {
+                    CheckExecution execution =
+                        limit == Long.MAX_VALUE ? future.get() : future.get(limit, TimeUnit.NANOSECONDS);
+                    executions.add(execution);
+                    if (abortWhen.test(execution)) {
+                        break;
+                    }
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    executions.add(CheckExecution.timedOut(descriptor, Duration.ofNanos(limit)));
+                } catch (ExecutionException e) {
+                    throw rethrow(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            throw interrupted(e);
+        } finally {
+            // Never wait for cancelled checks: a hung call must not hold the run hostage
+            executor.shutdownNow();
+        }
+
+        return executions;
+    }
+}
@@ -1,30 +1,45 @@
-package com.prodguard.starter;
-
-import com.prodguard.core.CheckResult;
-import com.prodguard.core.EffectiveSeverity;
-import com.prodguard.core.Severity;
-
-public class SeverityResolver {
-
-    private final ProdGuardProperties properties;
-
-    public SeverityResolver(ProdGuardProperties properties) {
-        this.properties = properties;
-    }
-
-    public EffectiveSeverity resolve(CheckResult result) {
-        return properties.getSeverities()
-                .getOrDefault(
-                    result.code(),
-                    mapDefault(result.severity())
-                );
-    }
-
-    private EffectiveSeverity mapDefault(Severity severity) {
-        return switch (severity) {
-            case INFO -> EffectiveSeverity.INFO;
-            case WARN -> EffectiveSeverity.WARN;
-            case ERROR -> EffectiveSeverity.ERROR;
-        };
-    }
-}
+package com.prodguard.starter;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.EffectiveSeverity;
+import com.prodguard.core.Severity;
+
+public class SeverityResolver {
+
+    private final ProdGuardProperties properties;
+
+    public SeverityResolver(ProdGuardProperties properties) {
+        this.properties = properties;
+    }
+
+    public EffectiveSeverity resolve(CheckResult result) {
+        // Timeouts and skips are mapped through their own keys (prodguard.severities.TIMED_OUT / SKIPPED)
+        if (result.outcome() == CheckOutcome.TIMED_OUT) {
+            return properties.getSeverities()
+                    .getOrDefault(CheckOutcome.TIMED_OUT.name(), EffectiveSeverity.WARN);
+        }
+        if (result.outcome() == CheckOutcome.SKIPPED) {
+            return properties.getSeverities()
+                    .getOrDefault(CheckOutcome.SKIPPED.name(), EffectiveSeverity.INFO);
+        }
+        return resolve(result.descriptor());
+    }
+
+    public EffectiveSeverity resolve(CheckDescriptor descriptor) {
+        return properties.getSeverities()
+                .getOrDefault(
+                    descriptor.code(),
+                    mapDefault(descriptor.severity())
+                );
+    }
+
+    private EffectiveSeverity mapDefault(Severity severity) {
+        return switch (severity) {
+            case INFO -> EffectiveSeverity.INFO;
+            case WARN -> EffectiveSeverity.WARN;
+            case ERROR -> EffectiveSeverity.ERROR;
+        };
+    }
+}
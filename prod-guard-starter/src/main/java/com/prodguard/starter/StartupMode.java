@@ -0,0 +1,15 @@
+package com.prodguard.starter;
+
+/**
+ * When the guard runs relative to application startup.
+ */
+public enum StartupMode {
+    /** Every check runs before the application is ready; blocking issues fail startup (default). */
+    BLOCKING,
+    /**
+     * Configuration checks run before the application is ready; RUNTIME and NETWORK cost
+     * checks run in the background once it is, and blocking issues among them mark it
+     * REFUSING_TRAFFIC.
+     */
+    POST_READINESS
+}
@@ -0,0 +1,54 @@
+package com.prodguard.spring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+class ConfigurationFingerprintTest {
+
+    private static final List<String> CATALOG = List.of("prod-guard 1.0.0", "PG-001 com.example.Check ERROR PROPERTY");
+
+    @Test
+    void sameConfigurationGivesTheSameFingerprint() {
+        assertThat(fingerprint(Map.of("server.port", "8080"), Set.of(), CATALOG))
+            .isEqualTo(fingerprint(Map.of("server.port", "8080"), Set.of(), CATALOG));
+    }
+
+    @Test
+    void changedPropertyChangesTheFingerprint() {
+        assertThat(fingerprint(Map.of("server.port", "8080"), Set.of(), CATALOG))
+            .isNotEqualTo(fingerprint(Map.of("server.port", "9090"), Set.of(), CATALOG));
+    }
+
+    @Test
+    void ignoredKeysDoNotAffectTheFingerprint() {
+        Map<String, Object> first = Map.of("server.port", "8080", "HOSTNAME", "pod-a");
+        Map<String, Object> second = Map.of("server.port", "8080", "HOSTNAME", "pod-b");
+
+        assertThat(fingerprint(first, Set.of("HOSTNAME"), CATALOG))
+            .isEqualTo(fingerprint(second, Set.of("HOSTNAME"), CATALOG));
+        assertThat(fingerprint(first, Set.of(), CATALOG))
+            .isNotEqualTo(fingerprint(second, Set.of(), CATALOG));
+    }
+
+    @Test
+    void changedCatalogChangesTheFingerprint() {
+        List<String> upgraded = List.of("prod-guard 1.1.0", "PG-001 com.example.Check ERROR PROPERTY");
+
+        assertThat(fingerprint(Map.of("server.port", "8080"), Set.of(), CATALOG))
+            .isNotEqualTo(fingerprint(Map.of("server.port", "8080"), Set.of(), upgraded));
+    }
+
+    private static String fingerprint(Map<String, Object> properties, Set<String> ignoredKeys, List<String> catalog) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        byte[] digest = ConfigurationFingerprint.of(new SpringProdGuardContext(context), ignoredKeys, catalog);
+        return java.util.HexFormat.of().formatHex(digest);
+    }
+}
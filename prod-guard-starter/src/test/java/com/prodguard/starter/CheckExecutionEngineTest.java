@@ -0,0 +1,94 @@
+package com.prodguard.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.Severity;
+import com.prodguard.starter.support.MockProdGuardContext;
+import com.prodguard.starter.support.TestCheck;
+
+class CheckExecutionEngineTest {
+
+    private static final Duration HANG = Duration.ofSeconds(30);
+
+    private final ExecutionBudget deadlines =
+        new ExecutionBudget(null, null, Map.of("PG-901", Duration.ofMillis(100)));
+
+    @Test
+    void sequentialEngineTimesOutACheckPastItsDeadline() {
+        assertTimesOutHungCheck(new SequentialCheckExecutionEngine(deadlines));
+    }
+
+    @Test
+    void concurrentEngineTimesOutACheckPastItsDeadline() {
+        assertTimesOutHungCheck(ConcurrentCheckExecutionEngine.virtualThreads(deadlines));
+    }
+
+    @Test
+    void exhaustedBudgetTimesOutChecksWithoutStartingThem() {
+        TestCheck hung = new TestCheck("PG-901", Severity.WARN, CheckCost.RUNTIME).sleeping(HANG);
+        TestCheck next = new TestCheck("PG-902", Severity.WARN, CheckCost.RUNTIME);
+        ExecutionBudget budget = new ExecutionBudget(Duration.ofMillis(100), null, Map.of());
+
+        List<CheckExecution> executions = new SequentialCheckExecutionEngine(budget)
+            .execute(List.of(hung, next), new MockProdGuardContext(), System.nanoTime());
+
+        assertThat(executions).hasSize(2);
+        assertThat(outcome(executions.get(0))).isEqualTo(CheckOutcome.TIMED_OUT);
+        assertThat(outcome(executions.get(1))).isEqualTo(CheckOutcome.TIMED_OUT);
+        assertThat(next.runs()).isEqualTo(0);
+    }
+
+    @Test
+    void abortKeepsChecksThatFinishedBeforeItWasHandled() {
+        TestCheck blocking = new TestCheck("PG-901", Severity.ERROR, CheckCost.RUNTIME).failing(true);
+        TestCheck quick = new TestCheck("PG-902", Severity.WARN, CheckCost.RUNTIME).sleeping(Duration.ofMillis(50));
+        TestCheck hung = new TestCheck("PG-903", Severity.WARN, CheckCost.RUNTIME).sleeping(HANG);
+
+        List<CheckExecution> executions = ConcurrentCheckExecutionEngine.virtualThreads(ExecutionBudget.UNBOUNDED)
+            .execute(List.of(blocking, quick, hung), new MockProdGuardContext(), System.nanoTime(), execution -> {
+                // Handling the blocking result is slow enough for the quick check to finish meanwhile
+                sleep(Duration.ofMillis(300));
+                return execution.code().equals("PG-901");
+            });
+
+        assertThat(executions.stream().map(CheckExecution::code).toList()).containsExactly("PG-901", "PG-902");
+    }
+
+    private static void assertTimesOutHungCheck(CheckExecutionEngine engine) {
+        TestCheck hung = new TestCheck("PG-901", Severity.WARN, CheckCost.RUNTIME).sleeping(HANG);
+        TestCheck failing = new TestCheck("PG-902", Severity.WARN, CheckCost.RUNTIME).failing(true);
+        List<ProdCheck> checks = List.of(hung, failing);
+
+        long start = System.nanoTime();
+        List<CheckExecution> executions = engine.execute(checks, new MockProdGuardContext(), start);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis()).isLessThan(10_000L);
+        assertThat(executions).hasSize(2);
+        CheckResult timedOut = executions.get(0).result().orElseThrow();
+        assertThat(timedOut.outcome()).isEqualTo(CheckOutcome.TIMED_OUT);
+        assertThat(timedOut.message()).contains("100 ms");
+        assertThat(outcome(executions.get(1))).isEqualTo(CheckOutcome.FAILED);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CheckOutcome outcome(CheckExecution execution) {
+        return execution.result().orElseThrow().outcome();
+    }
+}
@@ -0,0 +1,170 @@
+package com.prodguard.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLSession;
+
+import org.junit.jupiter.api.Test;
+
+import com.prodguard.checks.premium.security.EffectiveHstsCheck;
+import com.prodguard.checks.premium.security.EffectiveRouteHeadersCheck;
+import com.prodguard.checks.premium.security.EndpointCrawler;
+import com.prodguard.checks.premium.security.PremiumSecurityChecks;
+import com.prodguard.checks.premium.security.ProbeSession;
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.EffectiveSeverity;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.Severity;
+import com.prodguard.starter.support.MockProdGuardContext;
+import com.prodguard.starter.support.TestCheck;
+
+class CheckSchedulerTest {
+
+    private final ProdGuardProperties properties = new ProdGuardProperties();
+    private final SeverityResolver severityResolver = new SeverityResolver(properties);
+    private final CheckPlanner planner = new CheckPlanner(severityResolver);
+
+    @Test
+    void checksRecordingPropertyKeysStillSeeTheRoutes() {
+        ConcurrentLinkedQueue<String> probed = new ConcurrentLinkedQueue<>();
+        ProdCheck check = PremiumSecurityChecks.routeHeaders(request -> {
+            probed.add(request.uri().getPath());
+            return new EmptyResponse();
+        }, EndpointCrawler.Limits.DEFAULTS);
+        PropertyKeyIndex keyIndex = new PropertyKeyIndex();
+        CheckScheduler scheduler =
+            new CheckScheduler(new SequentialCheckExecutionEngine(), severityResolver, false, keyIndex);
+
+        MockProdGuardContext ctx = new MockProdGuardContext()
+            .withLocalServerPort(8080)
+            .withRoute("/orders", "GET")
+            .withRoute("/customers", "GET");
+
+        List<CheckExecution> executions = scheduler.execute(planner.plan(List.of(check)), ctx);
+
+        assertThat(List.copyOf(probed)).containsExactly("/orders", "/customers");
+        assertThat(executions).hasSize(1);
+        assertThat(executions.get(0).result().isPresent()).isTrue();
+        assertThat(keyIndex.isRecorded(EffectiveRouteHeadersCheck.DESCRIPTOR.code())).isTrue();
+    }
+
+    @Test
+    void warningPrerequisiteDoesNotPruneItsDependents() {
+        TestCheck prerequisite = new TestCheck("PG-901", Severity.WARN, CheckCost.PROPERTY).failing(true);
+        TestCheck dependent = new TestCheck("PG-902", Severity.WARN, CheckCost.PROPERTY).requiring("PG-901");
+        CheckScheduler scheduler = new CheckScheduler(new SequentialCheckExecutionEngine(), severityResolver, false);
+
+        List<CheckExecution> executions =
+            scheduler.execute(planner.plan(List.of(prerequisite, dependent)), new MockProdGuardContext());
+
+        assertThat(dependent.runs()).isEqualTo(1);
+        assertThat(executions).hasSize(2);
+        assertThat(executions.get(1).result()).isEmpty();
+    }
+
+    @Test
+    void blockingPrerequisiteReportsItsDependentsAsSkipped() {
+        TestCheck prerequisite = new TestCheck("PG-901", Severity.ERROR, CheckCost.PROPERTY).failing(true);
+        TestCheck dependent = new TestCheck("PG-902", Severity.ERROR, CheckCost.PROPERTY).requiring("PG-901");
+        TestCheck transitive = new TestCheck("PG-903", Severity.ERROR, CheckCost.BEAN).requiring("PG-902");
+        CheckScheduler scheduler = new CheckScheduler(new SequentialCheckExecutionEngine(), severityResolver, false);
+
+        List<CheckExecution> executions = scheduler.execute(
+            planner.plan(List.of(prerequisite, dependent, transitive)), new MockProdGuardContext());
+
+        assertThat(dependent.runs()).isEqualTo(0);
+        assertThat(transitive.runs()).isEqualTo(0);
+        assertThat(executions).hasSize(3);
+        CheckResult skipped = executions.get(1).result().orElseThrow();
+        assertThat(skipped.outcome()).isEqualTo(CheckOutcome.SKIPPED);
+        assertThat(skipped.message()).contains("PG-901");
+        assertThat(executions.get(2).result().orElseThrow().outcome()).isEqualTo(CheckOutcome.SKIPPED);
+        // Skips are reported, but do not block readiness
+        assertThat(severityResolver.resolve(skipped)).isEqualTo(EffectiveSeverity.INFO);
+    }
+
+    @Test
+    void failFastCancelsRunningChecksAndSkipsLaterStages() {
+        TestCheck blocking = new TestCheck("PG-901", Severity.ERROR, CheckCost.PROPERTY).failing(true);
+        TestCheck hung = new TestCheck("PG-902", Severity.WARN, CheckCost.PROPERTY).sleeping(Duration.ofSeconds(30));
+        TestCheck later = new TestCheck("PG-903", Severity.WARN, CheckCost.BEAN);
+        CheckScheduler scheduler =
+            new CheckScheduler(ConcurrentCheckExecutionEngine.virtualThreads(ExecutionBudget.UNBOUNDED), severityResolver, true);
+
+        long start = System.nanoTime();
+        List<CheckExecution> executions = scheduler.execute(
+            planner.plan(List.of(blocking, hung, later)), new MockProdGuardContext());
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis()).isLessThan(10_000L);
+        assertThat(executions.stream().map(CheckExecution::code).toList()).containsExactly("PG-901");
+        assertThat(later.runs()).isEqualTo(0);
+    }
+
+    @Test
+    void executionsAreOrderedByCode() {
+        TestCheck blocking = new TestCheck("PG-905", Severity.ERROR, CheckCost.PROPERTY).failing(true);
+        TestCheck cached = new TestCheck("PG-903", Severity.WARN, CheckCost.PROPERTY);
+        TestCheck later = new TestCheck("PG-901", Severity.WARN, CheckCost.BEAN);
+        TestCheck pruned = new TestCheck("PG-902", Severity.WARN, CheckCost.BEAN).requiring("PG-905");
+        CheckScheduler scheduler = new CheckScheduler(new SequentialCheckExecutionEngine(), severityResolver, false);
+
+        List<CheckExecution> executions = scheduler.execute(
+            planner.plan(List.of(blocking, cached, later, pruned)), new MockProdGuardContext(),
+            Map.of("PG-903", Optional.empty()));
+
+        assertThat(executions.stream().map(CheckExecution::code).toList())
+            .containsExactly("PG-901", "PG-902", "PG-903", "PG-905");
+        assertThat(cached.runs()).isEqualTo(0);
+    }
+
+    @Test
+    void prunedProbingChecksSendNoRequests() {
+        AtomicInteger probes = new AtomicInteger();
+        ProbeSession session = new ProbeSession(request -> {
+            probes.incrementAndGet();
+            return new EmptyResponse();
+        });
+        ProbeSessionRunListener listener = new ProbeSessionRunListener(session);
+        TestCheck https = new TestCheck("PG-202", Severity.ERROR, CheckCost.PROPERTY).failing(true);
+        EffectiveHstsCheck hsts = PremiumSecurityChecks.hsts(session);
+        CheckScheduler scheduler = new CheckScheduler(new SequentialCheckExecutionEngine(), severityResolver, false);
+        MockProdGuardContext ctx = new MockProdGuardContext().withLocalServerPort(8443);
+        CheckPlan plan = planner.plan(List.of(https, hsts));
+
+        listener.runStarted(plan, ctx);
+        List<CheckExecution> executions = scheduler.execute(plan, ctx, Map.of(),
+            checks -> listener.stageStarted(checks, ctx), execution -> { });
+
+        assertThat(executions.get(1).result().orElseThrow().outcome()).isEqualTo(CheckOutcome.SKIPPED);
+        assertThat(probes).hasValue(0);
+    }
+
+    /**
+     * A 200 response without any header.
+     */
+    private static final class EmptyResponse implements HttpResponse<Void> {
+
+        @Override public int statusCode() { return 200; }
+        @Override public HttpHeaders headers() { return HttpHeaders.of(Map.of(), (a, b) -> true); }
+        @Override public Optional<SSLSession> sslSession() { return Optional.empty(); }
+        @Override public Void body() { return null; }
+        @Override public URI uri() { return null; }
+        @Override public HttpClient.Version version() { return null; }
+        @Override public Optional<HttpResponse<Void>> previousResponse() { return Optional.empty(); }
+        @Override public HttpRequest request() { return null; }
+    }
+}
@@ -0,0 +1,128 @@
+package com.prodguard.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.Severity;
+import com.prodguard.starter.support.TestCheck;
+
+class ProdGuardEndpointTest {
+
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private final TestCheck check = new TestCheck("PG-901", Severity.WARN, CheckCost.PROPERTY).failing(true);
+    private ProdGuardRunner runner;
+    private ProdGuardEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        context.getEnvironment().getPropertySources()
+            .addFirst(new MapPropertySource("test", Map.of("prodguard.force", "true")));
+        context.refresh();
+
+        ProdGuardProperties properties = new ProdGuardProperties();
+        SeverityResolver severityResolver = new SeverityResolver(properties);
+        runner = new ProdGuardRunner(List.of(check), context, severityResolver, new CheckPlanner(severityResolver),
+                new SequentialCheckExecutionEngine(), List.of(), properties);
+        runner.run(new DefaultApplicationArguments());
+        endpoint = new ProdGuardEndpoint(runner, severityResolver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void answersNotModifiedWhileTheEntityTagMatches() {
+        WebEndpointResponse<byte[]> first = endpoint.results(null);
+        String etag = endpoint.etag();
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(new String(first.getBody())).contains("PG-901");
+        assertThat(etag).startsWith("\"");
+
+        WebEndpointResponse<byte[]> second = endpoint.results(etag);
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getBody()).isNull();
+
+        assertThat(endpoint.results("W/" + etag).getStatus()).isEqualTo(304);
+        assertThat(endpoint.results("\"other\", " + etag).getStatus()).isEqualTo(304);
+        assertThat(endpoint.results("\"other\"").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void newResultsInvalidateTheEntityTag() throws Exception {
+        String etag = endpoint.etag();
+
+        check.failing(false);
+        assertThat(endpoint.rerun().getStatus()).isEqualTo(202);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (check.runs() < 2 || endpoint.etag().equals(etag)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+
+        assertThat(endpoint.results(etag).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void filterCarriesTheHttpValidators() throws Exception {
+        ProdGuardEndpointFilter filter = new ProdGuardEndpointFilter(endpoint);
+        String etag = endpoint.etag();
+
+        Map<String, String> headers = new HashMap<>();
+        AtomicInteger status = new AtomicInteger(200);
+        AtomicBoolean served = new AtomicBoolean();
+
+        filter.doFilter(get(null), response(headers, status), (req, res) -> served.set(true));
+        assertThat(headers).containsEntry("ETag", etag);
+        assertThat(served.get()).isTrue();
+
+        served.set(false);
+        filter.doFilter(get(etag), response(headers, status), (req, res) -> served.set(true));
+        assertThat(status.get()).isEqualTo(304);
+        assertThat(served.get()).isFalse();
+    }
+
+    private static HttpServletRequest get(String ifNoneMatch) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+            HttpServletRequest.class.getClassLoader(), new Class<?>[] {HttpServletRequest.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getMethod" -> "GET";
+                case "getHeader" -> "If-None-Match".equalsIgnoreCase((String) args[0]) ? ifNoneMatch : null;
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static HttpServletResponse response(Map<String, String> headers, AtomicInteger status) {
+        return (HttpServletResponse) Proxy.newProxyInstance(
+            HttpServletResponse.class.getClassLoader(), new Class<?>[] {HttpServletResponse.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "setHeader" -> headers.put((String) args[0], (String) args[1]);
+                case "setStatus" -> {
+                    status.set((Integer) args[0]);
+                    yield null;
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
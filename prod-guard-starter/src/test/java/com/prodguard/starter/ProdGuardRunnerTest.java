@@ -0,0 +1,157 @@
+package com.prodguard.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.Severity;
+import com.prodguard.starter.support.TestCheck;
+
+class ProdGuardRunnerTest {
+
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private final ProdGuardProperties properties = new ProdGuardProperties();
+    private final List<ReadinessState> readiness = new CopyOnWriteArrayList<>();
+    private ProdGuardRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        context.getEnvironment().getPropertySources()
+            .addFirst(new MapPropertySource("test", Map.of("prodguard.force", "true")));
+        context.addApplicationListener(new ApplicationListener<AvailabilityChangeEvent<?>>() {
+            @Override
+            public void onApplicationEvent(AvailabilityChangeEvent<?> event) {
+                if (event.getState() instanceof ReadinessState state) {
+                    readiness.add(state);
+                }
+            }
+        });
+        context.refresh();
+        properties.setStartupMode(StartupMode.POST_READINESS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (runner != null) {
+            runner.stopPeriodicRevalidation();
+        }
+        context.close();
+    }
+
+    @Test
+    void deferredChecksWaitForAcceptingTraffic() throws Exception {
+        TestCheck probe = new TestCheck("PG-901", Severity.ERROR, CheckCost.NETWORK).failing(true);
+        start(probe);
+
+        assertThat(probe.runs()).isEqualTo(0);
+
+        // What Spring Boot publishes once the ApplicationReadyEvent listeners returned
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+
+        await(() -> readiness.contains(ReadinessState.REFUSING_TRAFFIC));
+        assertThat(readiness).containsExactly(ReadinessState.ACCEPTING_TRAFFIC, ReadinessState.REFUSING_TRAFFIC);
+    }
+
+    @Test
+    void acceptsTrafficAgainOnceTheBlockingIssueIsResolved() throws Exception {
+        TestCheck probe = new TestCheck("PG-901", Severity.ERROR, CheckCost.NETWORK).failing(true);
+        start(probe);
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+        await(() -> readiness.contains(ReadinessState.REFUSING_TRAFFIC));
+
+        probe.failing(false);
+        assertThat(runner.rerun()).isTrue();
+
+        await(() -> readiness.size() == 3);
+        assertThat(readiness).containsExactly(
+            ReadinessState.ACCEPTING_TRAFFIC, ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC
+        );
+    }
+
+    @Test
+    void reassertsRefusalWhenMarkedReadyWhileBlocking() throws Exception {
+        start(new TestCheck("PG-901", Severity.ERROR, CheckCost.NETWORK).failing(true));
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+        await(() -> readiness.contains(ReadinessState.REFUSING_TRAFFIC));
+
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+
+        assertThat(readiness.get(readiness.size() - 1)).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+    }
+
+    @Test
+    void nonBlockingIssuesKeepAcceptingTraffic() throws Exception {
+        TestCheck probe = new TestCheck("PG-901", Severity.WARN, CheckCost.NETWORK).failing(true);
+        start(probe);
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+
+        await(() -> runner.latestExecutions().containsKey("PG-901"));
+        assertThat(readiness).containsExactly(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    void refreshRevalidatesOnlyTheChecksReadingChangedKeys() throws Exception {
+        TestCheck port = new TestCheck("PG-901", Severity.WARN, CheckCost.PROPERTY).reading("server.port");
+        TestCheck showSql = new TestCheck("PG-902", Severity.WARN, CheckCost.PROPERTY).reading("spring.jpa.show-sql");
+        start(port, showSql);
+
+        // Relaxed form of server.port, as an environment variable would change it
+        assertThat(runner.revalidate(List.of("SERVER_PORT"))).containsExactly("PG-901");
+
+        await(() -> port.runs() == 2);
+        assertThat(showSql.runs()).isEqualTo(1);
+        assertThat(runner.revalidate(List.of("logging.level.root"))).isEmpty();
+    }
+
+    @Test
+    void periodicRevalidationRerunsOnlyExpiredResults() throws Exception {
+        properties.getRevalidation().setEnabled(true);
+        properties.getRevalidation().setTtls(Map.of("PG-901", Duration.ofMinutes(1), "PG-902", Duration.ofHours(1)));
+        TestCheck shortLived = new TestCheck("PG-901", Severity.WARN, CheckCost.PROPERTY);
+        TestCheck longLived = new TestCheck("PG-902", Severity.WARN, CheckCost.PROPERTY);
+        TestCheck startupOnly = new TestCheck("PG-903", Severity.WARN, CheckCost.PROPERTY);
+        start(shortLived, longLived, startupOnly);
+
+        assertThat(runner.revalidateExpired(Instant.now())).isEmpty();
+        assertThat(runner.revalidateExpired(Instant.now().plus(Duration.ofMinutes(5)))).containsExactly("PG-901");
+
+        assertThat(shortLived.runs()).isEqualTo(2);
+        assertThat(longLived.runs()).isEqualTo(1);
+        assertThat(startupOnly.runs()).isEqualTo(1);
+    }
+
+    private void start(ProdCheck... checks) throws Exception {
+        SeverityResolver severityResolver = new SeverityResolver(properties);
+        runner = new ProdGuardRunner(List.of(checks), context, severityResolver, new CheckPlanner(severityResolver),
+                new SequentialCheckExecutionEngine(), List.of(), properties);
+        context.addApplicationListener(runner);
+        runner.run(new DefaultApplicationArguments());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met within 5s");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.prodguard.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyKeyIndexTest {
+
+    private final PropertyKeyIndex index = new PropertyKeyIndex();
+
+    @Test
+    void matchesRelaxedKeyNames() {
+        index.record("PG-002", Set.of("spring.jpa.show-sql"));
+        index.record("PG-003", Set.of("server.port"));
+
+        assertThat(index.affectedBy(List.of("SPRING_JPA_SHOW_SQL"))).containsExactly("PG-002");
+    }
+
+    @Test
+    void ignoresListIndexes() {
+        index.record("PG-004", Set.of("management.endpoints.web.exposure.include"));
+
+        assertThat(index.affectedBy(List.of("management.endpoints.web.exposure.include[1]"))).containsExactly("PG-004");
+        assertThat(index.affectedBy(List.of("management.endpoints.web.exposure.exclude"))).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package com.prodguard.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.EffectiveSeverity;
+import com.prodguard.core.ProdGuardContext;
+import com.prodguard.core.Severity;
+import com.prodguard.starter.support.MockProdGuardContext;
+import com.prodguard.starter.support.TestCheck;
+
+class ReportSinkRunListenerTest {
+
+    private final SeverityResolver severityResolver = new SeverityResolver(new ProdGuardProperties());
+    private final CheckPlanner planner = new CheckPlanner(severityResolver);
+    private final ProdGuardContext ctx = new MockProdGuardContext();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void partialRunKeepsTheIssuesOfChecksItDidNotExecute() throws IOException {
+        Path file = dir.resolve("prod-guard.sarif");
+        ReportSinkRunListener listener = new ReportSinkRunListener(List.of(new SarifReportSink(file)), severityResolver);
+        TestCheck first = new TestCheck("PG-901", Severity.WARN, CheckCost.PROPERTY).failing(true);
+        TestCheck second = new TestCheck("PG-902", Severity.WARN, CheckCost.PROPERTY).failing(true);
+        CheckPlan full = planner.plan(List.of(first, second));
+
+        run(listener, full, first, second);
+        assertThat(read(file)).contains("\"ruleId\":\"PG-901\"", "\"ruleId\":\"PG-902\"");
+
+        first.failing(false);
+        run(listener, full.filter(entry -> entry.code().equals("PG-901")), first);
+
+        String log = read(file);
+        assertThat(log).doesNotContain("\"ruleId\":\"PG-901\"");
+        assertThat(log).contains("\"id\":\"PG-901\"", "\"ruleId\":\"PG-902\"");
+    }
+
+    @Test
+    void failingSinkLeavesThePreviousLogInPlace() throws IOException {
+        Path file = dir.resolve("prod-guard.sarif");
+        SarifReportSink sarif = new SarifReportSink(file);
+        TestCheck check = new TestCheck("PG-901", Severity.WARN, CheckCost.PROPERTY).failing(true);
+        CheckPlan plan = planner.plan(List.of(check));
+
+        run(new ReportSinkRunListener(List.of(sarif), severityResolver), plan, check);
+        String previous = read(file);
+
+        ReportSink failing = new ReportSink() {
+            @Override
+            public void begin(CheckPlan plan) throws IOException {
+                sarif.begin(plan);
+            }
+
+            @Override
+            public void write(CheckExecution execution, EffectiveSeverity severity) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void end() throws IOException {
+                sarif.end();
+            }
+
+            @Override
+            public void abort() throws IOException {
+                sarif.abort();
+            }
+        };
+        run(new ReportSinkRunListener(List.of(failing), severityResolver), plan, check.failing(false));
+
+        assertThat(read(file)).isEqualTo(previous);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.toList()).containsExactly(file);
+        }
+    }
+
+    private void run(ReportSinkRunListener listener, CheckPlan plan, TestCheck... checks) {
+        listener.runStarted(plan, ctx);
+        for (TestCheck check : checks) {
+            listener.checkCompleted(new CheckExecution(check.descriptor(), check.check(ctx)));
+        }
+        listener.runFinished(List.of());
+    }
+
+    private static String read(Path file) throws IOException {
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+}
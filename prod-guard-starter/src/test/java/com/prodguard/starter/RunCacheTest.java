@@ -0,0 +1,109 @@
+package com.prodguard.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckOutcome;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.Severity;
+
+class RunCacheTest {
+
+    private static final byte[] FINGERPRINT = {1, 2, 3, 4};
+
+    private static final CheckDescriptor FAILING = new CheckDescriptor("PG-001", "Failing check", Severity.ERROR);
+    private static final CheckDescriptor PASSING = new CheckDescriptor("PG-002", "Passing check", Severity.WARN);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void missingFileIsAMiss() {
+        RunCache cache = new RunCache(dir.resolve("run-cache.bin"));
+
+        assertThat(cache.load(FINGERPRINT, descriptors())).isEmpty();
+    }
+
+    @Test
+    void storedResultsAreServedForTheSameFingerprint() {
+        RunCache cache = new RunCache(dir.resolve("run-cache.bin"));
+        cache.store(FINGERPRINT, results());
+
+        Map<String, Optional<CheckResult>> loaded = cache.load(FINGERPRINT, descriptors());
+
+        assertThat(loaded).hasSize(2);
+        assertThat(loaded).containsEntry("PG-002", Optional.empty());
+        CheckResult result = loaded.get("PG-001").orElseThrow();
+        assertThat(result.descriptor()).isSameAs(FAILING);
+        assertThat(result.message()).isEqualTo("broken");
+        assertThat(result.remediation()).isNull();
+        assertThat(result.outcome()).isEqualTo(CheckOutcome.FAILED);
+    }
+
+    @Test
+    void eachApplicationGetsItsOwnFile() {
+        String orders = RunCache.fileName("orders", dir.resolve("orders"));
+
+        assertThat(orders).startsWith("run-cache-orders-");
+        assertThat(RunCache.fileName("orders", dir.resolve("orders"))).isEqualTo(orders);
+        assertThat(RunCache.fileName("billing", dir.resolve("orders"))).isNotEqualTo(orders);
+        assertThat(RunCache.fileName("orders", dir.resolve("orders-canary"))).isNotEqualTo(orders);
+        assertThat(RunCache.fileName(null, dir)).startsWith("run-cache-application-");
+        assertThat(RunCache.fileName("a/b c", dir)).startsWith("run-cache-a_b_c-");
+    }
+
+    @Test
+    void anotherFingerprintInvalidatesTheCache() {
+        RunCache cache = new RunCache(dir.resolve("run-cache.bin"));
+        cache.store(FINGERPRINT, results());
+
+        assertThat(cache.load(new byte[] {1, 2, 3, 5}, descriptors())).isEmpty();
+    }
+
+    @Test
+    void checksNoLongerPlannedAreDropped() {
+        RunCache cache = new RunCache(dir.resolve("run-cache.bin"));
+        cache.store(FINGERPRINT, results());
+
+        Map<String, Optional<CheckResult>> loaded = cache.load(FINGERPRINT, Map.of("PG-002", PASSING));
+
+        assertThat(loaded).hasSize(1);
+        assertThat(loaded).doesNotContainKey("PG-001");
+    }
+
+    @Test
+    void corruptFileIsAMiss() throws IOException {
+        Path file = dir.resolve("run-cache.bin");
+        RunCache cache = new RunCache(file);
+        cache.store(FINGERPRINT, results());
+
+        // Truncate in the middle of the entries
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 5));
+        assertThat(cache.load(FINGERPRINT, descriptors())).isEmpty();
+
+        Files.writeString(file, "not a run cache");
+        assertThat(cache.load(FINGERPRINT, descriptors())).isEmpty();
+    }
+
+    private static Map<String, CheckDescriptor> descriptors() {
+        return Map.of("PG-001", FAILING, "PG-002", PASSING);
+    }
+
+    private static Map<String, Optional<CheckResult>> results() {
+        Map<String, Optional<CheckResult>> results = new LinkedHashMap<>();
+        results.put("PG-001", Optional.of(new CheckResult(FAILING, "broken", null)));
+        results.put("PG-002", Optional.empty());
+        return results;
+    }
+}
@@ -0,0 +1,63 @@
+package com.prodguard.starter.support;
+
+import com.prodguard.core.HttpRoute;
+import com.prodguard.core.ProdGuardContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class MockProdGuardContext implements ProdGuardContext {
+
+    private final Map<String, String> properties = new HashMap<>();
+    private final List<HttpRoute> routes = new ArrayList<>();
+    private Integer localServerPort;
+
+    public MockProdGuardContext withProperty(String key, String value) {
+        properties.put(key, value);
+        return this;
+    }
+
+    public MockProdGuardContext withLocalServerPort(int port) {
+        this.localServerPort = port;
+        return this;
+    }
+
+    public MockProdGuardContext withRoute(String pattern, String... methods) {
+        routes.add(new HttpRoute(pattern, Set.of(methods)));
+        return this;
+    }
+
+    @Override
+    public Optional<String> getProperty(String key) {
+        return Optional.ofNullable(properties.get(key));
+    }
+
+    @Override
+    public <T> Optional<T> getBean(Class<T> type) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean hasBean(String className) {
+        return false;
+    }
+
+    @Override
+    public String[] getActiveProfiles() {
+        return new String[0];
+    }
+
+    @Override
+    public Optional<Integer> getLocalServerPort() {
+        return Optional.ofNullable(localServerPort);
+    }
+
+    @Override
+    public List<HttpRoute> getRoutes() {
+        return List.copyOf(routes);
+    }
+}
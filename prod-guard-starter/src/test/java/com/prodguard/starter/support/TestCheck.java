@@ -0,0 +1,90 @@
+package com.prodguard.starter.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.prodguard.core.CheckCost;
+import com.prodguard.core.CheckDescriptor;
+import com.prodguard.core.CheckResult;
+import com.prodguard.core.ProdCheck;
+import com.prodguard.core.ProdGuardContext;
+import com.prodguard.core.Severity;
+
+/**
+ * Configurable check for runner and engine tests: counts its runs, optionally reads
+ * properties, sleeps and reports an issue.
+ */
+public class TestCheck implements ProdCheck {
+
+    private final CheckDescriptor descriptor;
+    private final CheckCost cost;
+    private final AtomicInteger runs = new AtomicInteger();
+    private volatile boolean failing;
+    private volatile Duration delay = Duration.ZERO;
+    private volatile List<String> readKeys = List.of();
+    private volatile Set<String> prerequisites = Set.of();
+
+    public TestCheck(String code, Severity severity, CheckCost cost) {
+        this.descriptor = new CheckDescriptor(code, "Test check " + code, severity);
+        this.cost = cost;
+    }
+
+    public TestCheck failing(boolean failing) {
+        this.failing = failing;
+        return this;
+    }
+
+    public TestCheck sleeping(Duration delay) {
+        this.delay = delay;
+        return this;
+    }
+
+    public TestCheck reading(String... keys) {
+        this.readKeys = List.of(keys);
+        return this;
+    }
+
+    public TestCheck requiring(String... codes) {
+        this.prerequisites = Set.of(codes);
+        return this;
+    }
+
+    public int runs() {
+        return runs.get();
+    }
+
+    @Override
+    public Optional<CheckResult> check(ProdGuardContext ctx) {
+        runs.incrementAndGet();
+        readKeys.forEach(ctx::getProperty);
+        if (!delay.isZero()) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted", e);
+            }
+        }
+        return failing
+                ? Optional.of(new CheckResult(descriptor, descriptor.code() + " failed", "fix it"))
+                : Optional.empty();
+    }
+
+    @Override
+    public CheckDescriptor descriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public CheckCost cost() {
+        return cost;
+    }
+
+    @Override
+    public Set<String> prerequisites() {
+        return prerequisites;
+    }
+}